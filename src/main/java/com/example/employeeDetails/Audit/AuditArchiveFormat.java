@@ -0,0 +1,186 @@
+package com.example.employeeDetails.Audit;
+
+import com.example.employeeDetails.Entity.AuditLevel;
+import com.example.employeeDetails.Entity.AuditLog;
+import com.example.employeeDetails.Entity.SecurityLevel;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Gzipped columnar archive files: a header, then every row's value for one column before the next column.
+// Adjacent values of a column (actions, sources, levels, near-identical timestamps) compress far better
+// than row-wise records.
+final class AuditArchiveFormat
+{
+
+    private static final int MAGIC = 0x41554441; // "AUDA"
+    private static final byte FORMAT_VERSION = 1;
+
+    private AuditArchiveFormat()
+    {
+    }
+
+    static void write(Path file, List<AuditLog> rows) throws IOException
+    {
+        try (OutputStream fileOut = Files.newOutputStream(file);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(fileOut, 1 << 16))))
+        {
+            out.writeInt(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(rows.size());
+
+            for (AuditLog row : rows)
+            {
+                out.writeLong(row.getId());
+            }
+            for (AuditLog row : rows)
+            {
+                out.writeLong(row.getTimestamp().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(row.getTimestamp().getNano());
+            }
+            writeStrings(out, rows, AuditLog::getEmployeeId);
+            writeStrings(out, rows, AuditLog::getAction);
+            writeStrings(out, rows, AuditLog::getDetails);
+            writeStrings(out, rows, AuditLog::getUserId);
+            writeStrings(out, rows, AuditLog::getSessionId);
+            writeStrings(out, rows, AuditLog::getIpAddress);
+            writeStrings(out, rows, AuditLog::getSourceEJB);
+            writeStrings(out, rows, AuditLog::getTransactionId);
+            writeStrings(out, rows, row -> row.getSecurityLevel() != null ? row.getSecurityLevel().name() : null);
+            writeStrings(out, rows, row -> row.getAuditLevel() != null ? row.getAuditLevel().name() : null);
+            for (AuditLog row : rows)
+            {
+                out.writeByte((row.isComplianceRequired() ? 1 : 0) | (row.isEncryptedData() ? 2 : 0));
+            }
+            for (AuditLog row : rows)
+            {
+                out.writeInt(row.getRetentionDays() != null ? row.getRetentionDays() : -1);
+            }
+        }
+    }
+
+    static List<AuditLog> read(Path file) throws IOException
+    {
+        try (InputStream fileIn = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(fileIn, 1 << 16))))
+        {
+            if (in.readInt() != MAGIC)
+            {
+                throw new IOException("Not an audit archive: " + file);
+            }
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION)
+            {
+                throw new IOException("Unsupported audit archive version " + version + ": " + file);
+            }
+            int count = in.readInt();
+            List<AuditLog> rows = new ArrayList<>(count);
+            for (int i = 0; i < count; i++)
+            {
+                AuditLog row = new AuditLog();
+                row.setId(in.readLong());
+                row.setArchived(true);
+                rows.add(row);
+            }
+            for (AuditLog row : rows)
+            {
+                row.setTimestamp(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC));
+            }
+            for (AuditLog row : rows)
+            {
+                row.setEmployeeId(readString(in));
+            }
+            for (AuditLog row : rows)
+            {
+                row.setAction(readString(in));
+            }
+            for (AuditLog row : rows)
+            {
+                row.setDetails(readString(in));
+            }
+            for (AuditLog row : rows)
+            {
+                row.setUserId(readString(in));
+            }
+            for (AuditLog row : rows)
+            {
+                row.setSessionId(readString(in));
+            }
+            for (AuditLog row : rows)
+            {
+                row.setIpAddress(readString(in));
+            }
+            for (AuditLog row : rows)
+            {
+                row.setSourceEJB(readString(in));
+            }
+            for (AuditLog row : rows)
+            {
+                row.setTransactionId(readString(in));
+            }
+            for (AuditLog row : rows)
+            {
+                String level = readString(in);
+                row.setSecurityLevel(level != null ? SecurityLevel.valueOf(level) : null);
+            }
+            for (AuditLog row : rows)
+            {
+                String level = readString(in);
+                row.setAuditLevel(level != null ? AuditLevel.valueOf(level) : null);
+            }
+            for (AuditLog row : rows)
+            {
+                int flags = in.readByte();
+                row.setComplianceRequired((flags & 1) != 0);
+                row.setEncryptedData((flags & 2) != 0);
+            }
+            for (AuditLog row : rows)
+            {
+                int retentionDays = in.readInt();
+                row.setRetentionDays(retentionDays >= 0 ? retentionDays : null);
+            }
+            return rows;
+        }
+    }
+
+    private static void writeStrings(DataOutputStream out, List<AuditLog> rows, Function<AuditLog, String> column) throws IOException
+    {
+        for (AuditLog row : rows)
+        {
+            String value = column.apply(row);
+            if (value == null)
+            {
+                out.writeInt(-1);
+                continue;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException
+    {
+        int length = in.readInt();
+        if (length < 0)
+        {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.employeeDetails.Audit;
+
+import com.example.employeeDetails.Entity.AuditLog;
+import com.example.employeeDetails.Repository.AuditLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// Retention for audit_logs in two phases. Archive: rows past their retention_days are copied in bounded
+// batches into compressed columnar files under audit.archive.directory/<yyyy-MM>/ and flagged archived.
+// Purge: archived rows are deleted with set-based DELETE TOP (n) once the purge delay has passed, which leaves
+// time to copy the files off the host. A crash between writing a file and flagging its rows re-archives that
+// batch into the same file name on the next run. restore() puts an archive file's rows back for investigations.
+@Component
+@ConditionalOnProperty(name = "audit.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditArchiver
+{
+
+    private static final Logger log = LoggerFactory.getLogger(AuditArchiver.class);
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final LocalDateTime START = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final Pattern MONTH_NAME = Pattern.compile("\\d{4}-\\d{2}");
+    private static final Pattern FILE_NAME = Pattern.compile("audit-\\d{19}-\\d{19}\\.colgz");
+
+    // Restored rows keep their original id; a row that is still in the table (not yet purged) is left alone
+    private static final String RESTORE_SQL =
+            "INSERT INTO audit_logs (id, employee_id, action, details, timestamp, user_id, session_id, ip_address, source_ejb, " +
+            "transaction_id, security_level, compliance_required, audit_level, encrypted_data, retention_days, archived, archive_date) " +
+            "SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, NULL " +
+            "WHERE NOT EXISTS (SELECT 1 FROM audit_logs WHERE id = ?)";
+
+    private final AuditLogRepository auditLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Path directory;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int defaultRetentionDays;
+    private final Duration hotWindow;
+    private final Duration purgeDelay;
+    private final int restoreRetentionDays;
+
+    private final Timer runTimer;
+    private final Counter archivedRows;
+    private final Counter archiveFiles;
+    private final Counter purgedRows;
+    private final Counter restoredRows;
+
+    public AuditArchiver(AuditLogRepository auditLogRepository, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                         @Value("${audit.archive.directory:audit-archive}") Path directory,
+                         @Value("${audit.archive.batch-size:2000}") int batchSize,
+                         @Value("${audit.archive.max-batches-per-run:500}") int maxBatchesPerRun,
+                         @Value("${audit.archive.default-retention-days:365}") int defaultRetentionDays,
+                         @Value("${audit.archive.hot-window:30d}") Duration hotWindow,
+                         @Value("${audit.archive.purge-delay:7d}") Duration purgeDelay,
+                         @Value("${audit.archive.restore-retention-days:30}") int restoreRetentionDays)
+    {
+        this.auditLogRepository = auditLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.directory = directory;
+        // Ids of a batch are flagged in one statement, so stay below SQL Server's 2100 parameter limit
+        this.batchSize = Math.max(1, Math.min(batchSize, 2000));
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.defaultRetentionDays = defaultRetentionDays;
+        this.hotWindow = hotWindow;
+        this.purgeDelay = purgeDelay;
+        this.restoreRetentionDays = restoreRetentionDays;
+        this.runTimer = Timer.builder("audit.archive.run").register(meterRegistry);
+        this.archivedRows = Counter.builder("audit.archive.rows").tag("phase", "archived").register(meterRegistry);
+        this.purgedRows = Counter.builder("audit.archive.rows").tag("phase", "purged").register(meterRegistry);
+        this.restoredRows = Counter.builder("audit.archive.rows").tag("phase", "restored").register(meterRegistry);
+        this.archiveFiles = Counter.builder("audit.archive.files").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${audit.archive.cron:0 30 2 * * *}")
+    public void run()
+    {
+        runTimer.record(() -> {
+            try
+            {
+                archiveExpired();
+                purgeArchived();
+            }
+            catch (Exception e)
+            {
+                log.warn("Audit archival run failed, continuing on the next run: {}", e.getMessage());
+            }
+        });
+    }
+
+    public void archiveExpired() throws IOException
+    {
+        LocalDateTime now = LocalDateTime.now();
+        // Nothing inside the hot window is ever a candidate, so the scan stays in cold partitions
+        LocalDateTime coldBefore = now.minus(hotWindow);
+        LocalDateTime afterTimestamp = START;
+        long afterId = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++)
+        {
+            List<AuditLog> rows = auditLogRepository.findExpiredAfter(coldBefore, now, defaultRetentionDays, afterTimestamp, afterId, batchSize);
+            if (rows.isEmpty())
+            {
+                break;
+            }
+
+            writeArchiveFiles(rows);
+            auditLogRepository.markArchived(rows.stream().map(AuditLog::getId).toList(), now);
+            archivedRows.increment(rows.size());
+
+            AuditLog last = rows.get(rows.size() - 1);
+            afterTimestamp = last.getTimestamp();
+            afterId = last.getId();
+            if (rows.size() < batchSize)
+            {
+                break;
+            }
+        }
+    }
+
+    public void purgeArchived()
+    {
+        LocalDateTime archivedBefore = LocalDateTime.now().minus(purgeDelay);
+        for (int batch = 0; batch < maxBatchesPerRun; batch++)
+        {
+            int deleted = auditLogRepository.purgeArchived(archivedBefore, batchSize);
+            purgedRows.increment(deleted);
+            if (deleted < batchSize)
+            {
+                break;
+            }
+        }
+    }
+
+    // Re-inserts the rows of audit.archive.directory/<month>/<fileName>; returns how many were inserted.
+    // Each restored row is kept for restoreRetentionDays from now before the archiver picks it up again.
+    public int restore(String month, String fileName) throws IOException
+    {
+        if (month == null || !MONTH_NAME.matcher(month).matches() || fileName == null || !FILE_NAME.matcher(fileName).matches())
+        {
+            throw new IllegalArgumentException("Not an audit archive file: " + month + "/" + fileName);
+        }
+        Path file = directory.resolve(month).resolve(fileName);
+        if (!Files.isRegularFile(file))
+        {
+            throw new IllegalArgumentException("Audit archive file not found: " + month + "/" + fileName);
+        }
+
+        List<AuditLog> rows = AuditArchiveFormat.read(file);
+        LocalDateTime now = LocalDateTime.now();
+        int restored = 0;
+        for (int from = 0; from < rows.size(); from += batchSize)
+        {
+            List<AuditLog> batch = rows.subList(from, Math.min(rows.size(), from + batchSize));
+            for (int inserted : jdbcTemplate.batchUpdate(RESTORE_SQL, batch, batch.size(), (statement, row) -> {
+                int retentionDays = (int) Math.min(Integer.MAX_VALUE, ChronoUnit.DAYS.between(row.getTimestamp(), now) + restoreRetentionDays);
+                statement.setLong(1, row.getId());
+                statement.setString(2, row.getEmployeeId());
+                statement.setString(3, row.getAction());
+                statement.setString(4, row.getDetails());
+                statement.setTimestamp(5, Timestamp.valueOf(row.getTimestamp()));
+                statement.setString(6, row.getUserId());
+                statement.setString(7, row.getSessionId());
+                statement.setString(8, row.getIpAddress());
+                statement.setString(9, row.getSourceEJB());
+                statement.setString(10, row.getTransactionId());
+                statement.setString(11, row.getSecurityLevel() != null ? row.getSecurityLevel().name() : null);
+                statement.setBoolean(12, row.isComplianceRequired());
+                statement.setString(13, row.getAuditLevel() != null ? row.getAuditLevel().name() : null);
+                statement.setBoolean(14, row.isEncryptedData());
+                statement.setInt(15, retentionDays);
+                statement.setLong(16, row.getId());
+            })[0])
+            {
+                restored += Math.max(0, inserted);
+            }
+        }
+        restoredRows.increment(restored);
+        log.info("Restored {} of {} audit rows from {}/{}", restored, rows.size(), month, fileName);
+        return restored;
+    }
+
+    // Rows come in timestamp order, so each month is one contiguous run; every run gets a file in its own month
+    private void writeArchiveFiles(List<AuditLog> rows) throws IOException
+    {
+        int start = 0;
+        for (int i = 1; i <= rows.size(); i++)
+        {
+            if (i == rows.size() || !YearMonth.from(rows.get(i).getTimestamp()).equals(YearMonth.from(rows.get(start).getTimestamp())))
+            {
+                writeArchiveFile(rows.subList(start, i));
+                start = i;
+            }
+        }
+    }
+
+    // Written to a temporary file, forced to disk and renamed, so a file under its final name is always complete
+    private void writeArchiveFile(List<AuditLog> rows) throws IOException
+    {
+        AuditLog first = rows.get(0);
+        AuditLog last = rows.get(rows.size() - 1);
+        Path monthDirectory = directory.resolve(first.getTimestamp().format(MONTH));
+        Files.createDirectories(monthDirectory);
+
+        String name = String.format("audit-%019d-%019d.colgz", first.getId(), last.getId());
+        Path temp = monthDirectory.resolve(name + ".tmp");
+        AuditArchiveFormat.write(temp, rows);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE))
+        {
+            channel.force(true);
+        }
+        Files.move(temp, monthDirectory.resolve(name), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        archiveFiles.increment();
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.employeeDetails.Audit;
+
+import com.example.employeeDetails.Entity.AuditLog;
+import com.example.employeeDetails.Repository.AuditLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Write-behind audit pipeline: producers enqueue into a lock-free ring buffer, a dedicated flusher thread
+// writes JDBC batches when a batch fills up, when the flush interval elapses, or at once for urgent events.
+// A batch rejected for its data, or failing max-batch-attempts times in a row, is written row by row so the
+// offending rows are dead-lettered instead of stalling every later event.
+@Component
+public class AuditBatchWriter implements SmartLifecycle
+{
+
+    private static final Logger log = LoggerFactory.getLogger(AuditBatchWriter.class);
+    private static final long MAX_RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final int SHUTDOWN_WRITE_ATTEMPTS = 3;
+    private static final String DEAD_LETTER_SOURCE = "pipeline";
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditDeadLetters auditDeadLetters;
+    private final AuditRingBuffer buffer;
+    private final int batchSize;
+    private final int maxBatchAttempts;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+    private final long shutdownTimeoutMillis;
+
+    private final Counter writtenEvents;
+    private final Counter writtenBatches;
+    private final Counter failedBatches;
+    private final Counter backpressureWaits;
+    private final Counter synchronousWrites;
+    private final Counter droppedEvents;
+
+    private volatile boolean running;
+    private volatile boolean urgentFlushRequested;
+    private volatile Thread flusher;
+
+    public AuditBatchWriter(AuditLogRepository auditLogRepository, AuditDeadLetters auditDeadLetters, MeterRegistry meterRegistry,
+                            @Value("${audit.pipeline.capacity:65536}") int capacity,
+                            @Value("${audit.pipeline.batch-size:100}") int batchSize,
+                            @Value("${audit.pipeline.max-batch-attempts:5}") int maxBatchAttempts,
+                            @Value("${audit.pipeline.flush-interval:1s}") Duration flushInterval,
+                            @Value("${audit.pipeline.offer-timeout:50ms}") Duration offerTimeout,
+                            @Value("${audit.pipeline.shutdown-timeout:30s}") Duration shutdownTimeout)
+    {
+        this.auditLogRepository = auditLogRepository;
+        this.auditDeadLetters = auditDeadLetters;
+        this.buffer = new AuditRingBuffer(capacity);
+        this.batchSize = batchSize;
+        this.maxBatchAttempts = maxBatchAttempts;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.shutdownTimeoutMillis = shutdownTimeout.toMillis();
+
+        Gauge.builder("audit.pipeline.queued", buffer, AuditRingBuffer::size).register(meterRegistry);
+        this.writtenEvents = Counter.builder("audit.pipeline.written").register(meterRegistry);
+        this.writtenBatches = Counter.builder("audit.pipeline.batches").register(meterRegistry);
+        this.failedBatches = Counter.builder("audit.pipeline.batches.failed").register(meterRegistry);
+        this.backpressureWaits = Counter.builder("audit.pipeline.backpressure").register(meterRegistry);
+        this.synchronousWrites = Counter.builder("audit.pipeline.synchronous").register(meterRegistry);
+        this.droppedEvents = Counter.builder("audit.pipeline.dropped").register(meterRegistry);
+    }
+
+    public void enqueue(AuditLog auditLog, boolean urgent)
+    {
+        if (!running)
+        {
+            // Before start or after shutdown there is no flusher: write on the caller's thread
+            writeSynchronously(auditLog);
+            return;
+        }
+
+        if (!buffer.offer(auditLog))
+        {
+            // Backpressure: give the flusher a chance to catch up before falling back to a direct write
+            backpressureWaits.increment();
+            wakeFlusher();
+            long deadline = System.nanoTime() + offerTimeoutNanos;
+            boolean accepted = false;
+            while (!accepted && System.nanoTime() < deadline)
+            {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                accepted = buffer.offer(auditLog);
+            }
+            if (!accepted)
+            {
+                writeSynchronously(auditLog);
+                return;
+            }
+        }
+
+        if (urgent)
+        {
+            urgentFlushRequested = true;
+            wakeFlusher();
+        }
+        else if (buffer.size() >= batchSize)
+        {
+            wakeFlusher();
+        }
+    }
+
+    // Writes one batch in a single transaction; inserts are grouped by hibernate.jdbc.batch_size
+    public void writeBatch(List<AuditLog> batch)
+    {
+        auditLogRepository.saveAll(batch);
+        writtenEvents.increment(batch.size());
+        writtenBatches.increment();
+    }
+
+    @Override
+    public void start()
+    {
+        running = true;
+        flusher = Thread.ofPlatform().name("audit-flusher").daemon(true).start(this::runFlusher);
+    }
+
+    @Override
+    public void stop()
+    {
+        running = false;
+        Thread thread = flusher;
+        if (thread == null)
+        {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try
+        {
+            thread.join(shutdownTimeoutMillis);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        // Events offered while the flusher was finishing its last drain
+        List<AuditLog> stragglers = new ArrayList<>();
+        buffer.drainTo(stragglers, buffer.capacity());
+        stragglers.forEach(this::writeSynchronously);
+    }
+
+    @Override
+    public boolean isRunning()
+    {
+        return running;
+    }
+
+    // Stop after the web server has drained in-flight requests, so late events still reach the buffer
+    @Override
+    public int getPhase()
+    {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runFlusher()
+    {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        long lastFlush = System.nanoTime();
+        long retryBackoffNanos = 0;
+        int failedAttempts = 0;
+
+        while (running)
+        {
+            if (batch.size() < batchSize)
+            {
+                buffer.drainTo(batch, batchSize - batch.size());
+            }
+
+            boolean due = batch.size() >= batchSize || urgentFlushRequested || System.nanoTime() - lastFlush >= flushIntervalNanos;
+            if (!batch.isEmpty() && due)
+            {
+                urgentFlushRequested = false;
+                boolean written = failedAttempts >= maxBatchAttempts ? writeRowByRow(batch) : tryWrite(batch);
+                if (written)
+                {
+                    batch.clear();
+                    retryBackoffNanos = 0;
+                    failedAttempts = 0;
+                }
+                else
+                {
+                    failedAttempts++;
+                    // Keep the batch and retry; producers see backpressure while the buffer fills
+                    retryBackoffNanos = Math.min(MAX_RETRY_BACKOFF_NANOS, Math.max(TimeUnit.MILLISECONDS.toNanos(100), retryBackoffNanos * 2));
+                    LockSupport.parkNanos(retryBackoffNanos);
+                }
+                lastFlush = System.nanoTime();
+                continue;
+            }
+
+            LockSupport.parkNanos(flushIntervalNanos);
+        }
+
+        drainOnShutdown(batch);
+    }
+
+    private void drainOnShutdown(List<AuditLog> batch)
+    {
+        do
+        {
+            buffer.drainTo(batch, batchSize - batch.size());
+            if (batch.isEmpty())
+            {
+                break;
+            }
+            int attempts = 0;
+            while (!tryWrite(batch) && ++attempts < SHUTDOWN_WRITE_ATTEMPTS)
+            {
+                LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+            }
+            if (attempts >= SHUTDOWN_WRITE_ATTEMPTS)
+            {
+                droppedEvents.increment(batch.size());
+                log.error("Dropping {} audit events at shutdown: database unavailable", batch.size());
+            }
+            batch.clear();
+        }
+        while (true);
+    }
+
+    private boolean tryWrite(List<AuditLog> batch)
+    {
+        try
+        {
+            writeBatch(batch);
+            return true;
+        }
+        catch (Exception e)
+        {
+            failedBatches.increment();
+            log.warn("Audit batch of {} events failed: {}", batch.size(), e.getMessage());
+            // Retrying the same rows cannot fix bad data: find the offending ones now
+            return AuditDeadLetters.isPoison(e) && writeRowByRow(batch);
+        }
+    }
+
+    // Writes the batch one row at a time, removing each row once it is written or dead-lettered. Stops at the first
+    // failure that is not about the row's data (database down), leaving the remaining rows in the batch for a retry.
+    private boolean writeRowByRow(List<AuditLog> batch)
+    {
+        Iterator<AuditLog> rows = batch.iterator();
+        while (rows.hasNext())
+        {
+            AuditLog row = rows.next();
+            try
+            {
+                writeBatch(List.of(row));
+            }
+            catch (Exception e)
+            {
+                if (!AuditDeadLetters.isPoison(e))
+                {
+                    return false;
+                }
+                log.error("Dead-lettering audit event {} for {}: {}", row.getAction(), row.getEmployeeId(), e.getMessage());
+                auditDeadLetters.record(DEAD_LETTER_SOURCE, row, e);
+            }
+            rows.remove();
+        }
+        return true;
+    }
+
+    private void writeSynchronously(AuditLog auditLog)
+    {
+        synchronousWrites.increment();
+        try
+        {
+            auditLogRepository.save(auditLog);
+            writtenEvents.increment();
+        }
+        catch (Exception e)
+        {
+            if (AuditDeadLetters.isPoison(e))
+            {
+                auditDeadLetters.record(DEAD_LETTER_SOURCE, auditLog, e);
+            }
+            else
+            {
+                droppedEvents.increment();
+            }
+        }
+    }
+
+    private void wakeFlusher()
+    {
+        Thread thread = flusher;
+        if (thread != null)
+        {
+            LockSupport.unpark(thread);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.employeeDetails.Audit;
+
+import com.example.employeeDetails.Entity.AuditLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Audit records that can never be written (constraint violations, truncation, undecodable journal entries)
+// are set aside here so the pipelines behind them keep moving. One NDJSON file per day; each line holds the
+// reason and either the event or the raw journal payload, for manual repair and re-insert.
+// If the file cannot be written the record is logged in full instead.
+@Component
+public class AuditDeadLetters
+{
+
+    private static final Logger log = LoggerFactory.getLogger(AuditDeadLetters.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final MeterRegistry meterRegistry;
+
+    public AuditDeadLetters(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                            @Value("${audit.dead-letter.directory:audit-dead-letter}") Path directory)
+    {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.directory = directory;
+    }
+
+    // True when the failure is caused by the data itself, so retrying the same record can never succeed
+    public static boolean isPoison(Throwable failure)
+    {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause())
+        {
+            if (cause instanceof DataIntegrityViolationException)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void record(String source, AuditLog auditLog, Throwable failure)
+    {
+        Map<String, Object> entry = entry(source, failure);
+        entry.put("event", auditLog);
+        write(source, entry);
+    }
+
+    public void recordPayload(String source, byte[] payload, Throwable failure)
+    {
+        Map<String, Object> entry = entry(source, failure);
+        entry.put("payload", Base64.getEncoder().encodeToString(payload));
+        write(source, entry);
+    }
+
+    private Map<String, Object> entry(String source, Throwable failure)
+    {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("deadLetteredAt", LocalDateTime.now());
+        entry.put("source", source);
+        entry.put("reason", failure != null ? failure.getClass().getSimpleName() + ": " + failure.getMessage() : null);
+        return entry;
+    }
+
+    private synchronized void write(String source, Map<String, Object> entry)
+    {
+        meterRegistry.counter("audit.dead.letters", "source", source).increment();
+        String line = null;
+        try
+        {
+            line = objectMapper.writeValueAsString(entry);
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve("dead-letter-" + LocalDate.now() + ".ndjson"), line + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            log.error("Failed to write audit dead letter ({}); record follows: {}", e.getMessage(), line != null ? line : entry);
+        }
+    }
+}
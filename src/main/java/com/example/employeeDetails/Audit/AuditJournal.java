@@ -0,0 +1,480 @@
+package com.example.employeeDetails.Audit;
+
+import com.example.employeeDetails.Entity.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Local append-only write-ahead log for audit events, stored as fixed-size memory-mapped segment files.
+// Appends are a memory copy; a committer thread forces dirty pages to disk so that many appenders share one
+// fsync (group commit). Callers that need durability wait for the commit covering their record.
+//
+// Record layout: int length | int crc32c | payload. Length is written last, so a torn record reads as length 0.
+// Positions are (segment index << 32) | offset within the segment.
+@Component
+@ConditionalOnProperty(name = "audit.journal.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditJournal
+{
+
+    private static final Logger log = LoggerFactory.getLogger(AuditJournal.class);
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long commitIntervalNanos;
+    private final long durableWaitMillis;
+
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock commitLock = new ReentrantLock();
+    private final Condition committed = commitLock.newCondition();
+
+    private final Counter appendedRecords;
+    private final Counter groupCommits;
+
+    private Segment current;
+    private volatile long writePosition;
+    private volatile long durablePosition;
+    private volatile long checkpointPosition;
+    private volatile boolean commitRequested;
+    private volatile boolean open;
+    private Thread committer;
+
+    public AuditJournal(MeterRegistry meterRegistry,
+                        @Value("${audit.journal.directory:audit-journal}") Path directory,
+                        @Value("${audit.journal.segment-size:67108864}") int segmentSize,
+                        @Value("${audit.journal.commit-interval:5ms}") Duration commitInterval,
+                        @Value("${audit.journal.durable-wait-timeout:2s}") Duration durableWaitTimeout)
+    {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.commitIntervalNanos = commitInterval.toNanos();
+        this.durableWaitMillis = durableWaitTimeout.toMillis();
+
+        this.appendedRecords = Counter.builder("audit.journal.appended").register(meterRegistry);
+        this.groupCommits = Counter.builder("audit.journal.commits").register(meterRegistry);
+        Gauge.builder("audit.journal.segments", segments, Map::size).register(meterRegistry);
+        Gauge.builder("audit.journal.backlog.bytes", this, AuditJournal::backlogBytes).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void open() throws IOException
+    {
+        Files.createDirectories(directory);
+        checkpointPosition = readCheckpoint();
+
+        try (Stream<Path> files = Files.list(directory))
+        {
+            List<Path> segmentFiles = files.filter(this::isSegmentFile).sorted().toList();
+            for (Path file : segmentFiles)
+            {
+                long index = segmentIndex(file);
+                if (index < segmentOf(checkpointPosition))
+                {
+                    Files.deleteIfExists(file);  // fully replayed before the last shutdown
+                    continue;
+                }
+                Segment segment = Segment.map(file, index, segmentSize);
+                segment.recover();
+                segments.put(index, segment);
+            }
+        }
+
+        if (segments.isEmpty())
+        {
+            long index = segmentOf(checkpointPosition);
+            segments.put(index, Segment.map(segmentPath(index), index, segmentSize));
+        }
+        segments.headMap(segments.lastKey()).values().forEach(Segment::seal);
+        current = segments.lastEntry().getValue();
+        writePosition = position(current.index, current.writeOffset);
+        durablePosition = writePosition;
+
+        open = true;
+        committer = Thread.ofPlatform().name("audit-journal-committer").daemon(true).start(this::runCommitter);
+    }
+
+    @PreDestroy
+    public void close()
+    {
+        open = false;
+        if (committer != null)
+        {
+            LockSupport.unpark(committer);
+            try
+            {
+                committer.join(TimeUnit.SECONDS.toMillis(5));
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+        commit();
+        segments.values().forEach(Segment::close);
+    }
+
+    // Appends the event and returns the position just after it; throws when the record was not appended.
+    // Durability is awaited separately, so a caller can tell "not in the journal" from "in it, not yet on disk".
+    public long append(AuditLog auditLog)
+    {
+        byte[] payload = AuditJournalCodec.encode(auditLog);
+        int recordLength = RECORD_HEADER_BYTES + payload.length;
+        if (recordLength > segmentSize)
+        {
+            throw new IllegalArgumentException("Audit record of " + payload.length + " bytes exceeds the journal segment size");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        long end;
+        appendLock.lock();
+        try
+        {
+            if (!open)
+            {
+                throw new IllegalStateException("Audit journal is closed");
+            }
+            if (segmentSize - current.writeOffset < recordLength)
+            {
+                rotate();
+            }
+            int offset = current.writeOffset;
+            MappedByteBuffer buffer = current.buffer;
+            buffer.putInt(offset + 4, (int) crc.getValue());
+            buffer.put(offset + RECORD_HEADER_BYTES, payload);
+            buffer.putInt(offset, payload.length);
+            current.writeOffset = offset + recordLength;
+            end = position(current.index, current.writeOffset);
+            writePosition = end;
+        }
+        finally
+        {
+            appendLock.unlock();
+        }
+        appendedRecords.increment();
+        return end;
+    }
+
+    // Reads records in [from, writePosition) into target, at most maxRecords; returns the position after the last one read.
+    // A record that cannot be decoded is passed to undecodable and skipped: reading it again would fail the same way.
+    public long read(long from, List<AuditLog> target, int maxRecords, BiConsumer<byte[], RuntimeException> undecodable)
+    {
+        long limit = writePosition;
+        long position = from;
+        while (target.size() < maxRecords && position < limit)
+        {
+            Segment segment = segments.get(segmentOf(position));
+            if (segment == null)
+            {
+                // The segment was fully replayed and removed; continue with the next one
+                Map.Entry<Long, Segment> next = segments.higherEntry(segmentOf(position));
+                if (next == null)
+                {
+                    break;
+                }
+                position = position(next.getKey(), 0);
+                continue;
+            }
+
+            int offset = offsetOf(position);
+            if (offset >= segment.writeOffset)
+            {
+                // Re-check the offset after seeing the seal: the final writeOffset is published before sealed
+                if (!segment.sealed || offset < segment.writeOffset)
+                {
+                    break;
+                }
+                position = position(segment.index + 1, 0);
+                continue;
+            }
+
+            int length = segment.buffer.getInt(offset);
+            byte[] payload = new byte[length];
+            segment.buffer.get(offset + RECORD_HEADER_BYTES, payload);
+            position = position(segment.index, offset + RECORD_HEADER_BYTES + length);
+            try
+            {
+                target.add(AuditJournalCodec.decode(payload));
+            }
+            catch (RuntimeException e)
+            {
+                undecodable.accept(payload, e);
+            }
+        }
+        return position;
+    }
+
+    public long checkpointPosition()
+    {
+        return checkpointPosition;
+    }
+
+    // Records that everything before position is in the database, and drops segments that are fully replayed
+    public void checkpoint(long position) throws IOException
+    {
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        Files.write(temp, ByteBuffer.allocate(Long.BYTES).putLong(0, position).array());
+        Files.move(temp, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpointPosition = position;
+
+        for (Segment segment : segments.headMap(segmentOf(position)).values())
+        {
+            if (segment.sealed)
+            {
+                segments.remove(segment.index);
+                segment.close();
+                Files.deleteIfExists(segment.path);
+            }
+        }
+    }
+
+    private void rotate()
+    {
+        // Seal and force the full segment before moving on, so the committer only ever forces the current one
+        current.buffer.force();
+        current.seal();
+        long index = current.index + 1;
+        try
+        {
+            Segment next = Segment.map(segmentPath(index), index, segmentSize);
+            segments.put(index, next);
+            current = next;
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Failed to create audit journal segment " + index, e);
+        }
+    }
+
+    // Waits for the group commit covering position; false when it did not happen within the durable-wait timeout.
+    // Either way the record stays in the journal and is replayed.
+    public boolean awaitDurable(long position)
+    {
+        if (durablePosition >= position)
+        {
+            return true;
+        }
+        commitRequested = true;
+        LockSupport.unpark(committer);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durableWaitMillis);
+        commitLock.lock();
+        try
+        {
+            while (durablePosition < position)
+            {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0)
+                {
+                    return false;
+                }
+                committed.awaitNanos(remaining);
+            }
+            return true;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        finally
+        {
+            commitLock.unlock();
+        }
+    }
+
+    private void runCommitter()
+    {
+        while (open)
+        {
+            if (!commitRequested)
+            {
+                LockSupport.parkNanos(commitIntervalNanos);
+            }
+            commitRequested = false;
+            commit();
+        }
+    }
+
+    // One force() covers every record appended so far: that is the group commit
+    private void commit()
+    {
+        long target = writePosition;
+        if (target <= durablePosition)
+        {
+            return;
+        }
+        Segment segment = segments.get(segmentOf(target));
+        if (segment != null)
+        {
+            segment.buffer.force();
+        }
+        groupCommits.increment();
+
+        commitLock.lock();
+        try
+        {
+            durablePosition = target;
+            committed.signalAll();
+        }
+        finally
+        {
+            commitLock.unlock();
+        }
+    }
+
+    private double backlogBytes()
+    {
+        long from = checkpointPosition;
+        long to = writePosition;
+        return (double) (segmentOf(to) - segmentOf(from)) * segmentSize + offsetOf(to) - offsetOf(from);
+    }
+
+    private long readCheckpoint() throws IOException
+    {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file))
+        {
+            return 0;
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        return bytes.length == Long.BYTES ? ByteBuffer.wrap(bytes).getLong() : 0;
+    }
+
+    private boolean isSegmentFile(Path file)
+    {
+        String name = file.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private long segmentIndex(Path file)
+    {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private Path segmentPath(long index)
+    {
+        return directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    static long position(long segmentIndex, int offset)
+    {
+        return (segmentIndex << 32) | offset;
+    }
+
+    static long segmentOf(long position)
+    {
+        return position >>> 32;
+    }
+
+    static int offsetOf(long position)
+    {
+        return (int) position;
+    }
+
+    private static final class Segment
+    {
+
+        final long index;
+        final Path path;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        volatile int writeOffset;
+        volatile boolean sealed;
+
+        private Segment(long index, Path path, FileChannel channel, MappedByteBuffer buffer)
+        {
+            this.index = index;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment map(Path path, long index, int size) throws IOException
+        {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(index, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+
+        // Finds the end of the valid records; anything after a zero length or a checksum mismatch is a torn write
+        void recover()
+        {
+            int offset = 0;
+            int capacity = buffer.capacity();
+            while (offset + RECORD_HEADER_BYTES <= capacity)
+            {
+                int length = buffer.getInt(offset);
+                if (length <= 0 || offset + RECORD_HEADER_BYTES + length > capacity)
+                {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(offset + RECORD_HEADER_BYTES, payload);
+                CRC32C crc = new CRC32C();
+                crc.update(payload);
+                if ((int) crc.getValue() != buffer.getInt(offset + 4))
+                {
+                    log.warn("Audit journal {} has a torn record at offset {}; truncating", path.getFileName(), offset);
+                    break;
+                }
+                offset += RECORD_HEADER_BYTES + length;
+            }
+            // Clear any partial header so a later append at this offset is not mistaken for an older record
+            if (offset + RECORD_HEADER_BYTES <= capacity)
+            {
+                buffer.putInt(offset, 0);
+            }
+            writeOffset = offset;
+        }
+
+        void seal()
+        {
+            sealed = true;
+        }
+
+        void close()
+        {
+            try
+            {
+                channel.close();
+            }
+            catch (IOException e)
+            {
+                // Mapping stays valid until collected; nothing else to release
+            }
+        }
+    }
+}
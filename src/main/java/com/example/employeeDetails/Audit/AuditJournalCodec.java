@@ -0,0 +1,127 @@
+package com.example.employeeDetails.Audit;
+
+import com.example.employeeDetails.Entity.AuditLevel;
+import com.example.employeeDetails.Entity.AuditLog;
+import com.example.employeeDetails.Entity.SecurityLevel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Binary record format for journaled audit events. Only the columns set on the write path are stored;
+// id, archived and archiveDate are assigned when the event reaches the database.
+final class AuditJournalCodec
+{
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private AuditJournalCodec()
+    {
+    }
+
+    static byte[] encode(AuditLog auditLog)
+    {
+        try
+        {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(FORMAT_VERSION);
+            writeString(out, auditLog.getEmployeeId());
+            writeString(out, auditLog.getAction());
+            writeString(out, auditLog.getDetails());
+            LocalDateTime timestamp = auditLog.getTimestamp() != null ? auditLog.getTimestamp() : LocalDateTime.now();
+            out.writeLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(timestamp.getNano());
+            writeString(out, auditLog.getUserId());
+            writeString(out, auditLog.getSessionId());
+            writeString(out, auditLog.getIpAddress());
+            writeString(out, auditLog.getSourceEJB());
+            writeString(out, auditLog.getTransactionId());
+            writeEnum(out, auditLog.getSecurityLevel());
+            out.writeBoolean(auditLog.isComplianceRequired());
+            writeEnum(out, auditLog.getAuditLevel());
+            out.writeBoolean(auditLog.isEncryptedData());
+            out.writeInt(auditLog.getRetentionDays() != null ? auditLog.getRetentionDays() : -1);
+            return bytes.toByteArray();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static AuditLog decode(byte[] payload)
+    {
+        try
+        {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION)
+            {
+                throw new IllegalStateException("Unsupported audit journal record version: " + version);
+            }
+            AuditLog auditLog = new AuditLog();
+            auditLog.setEmployeeId(readString(in));
+            auditLog.setAction(readString(in));
+            auditLog.setDetails(readString(in));
+            auditLog.setTimestamp(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC));
+            auditLog.setUserId(readString(in));
+            auditLog.setSessionId(readString(in));
+            auditLog.setIpAddress(readString(in));
+            auditLog.setSourceEJB(readString(in));
+            auditLog.setTransactionId(readString(in));
+            auditLog.setSecurityLevel(readEnum(in, SecurityLevel.class));
+            auditLog.setComplianceRequired(in.readBoolean());
+            auditLog.setAuditLevel(readEnum(in, AuditLevel.class));
+            auditLog.setEncryptedData(in.readBoolean());
+            int retentionDays = in.readInt();
+            auditLog.setRetentionDays(retentionDays >= 0 ? retentionDays : null);
+            return auditLog;
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException
+    {
+        if (value == null)
+        {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // Enums are written by name, so the record format is unchanged and independent of constant order
+    private static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException
+    {
+        writeString(out, value != null ? value.name() : null);
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> type) throws IOException
+    {
+        String name = readString(in);
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    private static String readString(DataInputStream in) throws IOException
+    {
+        int length = in.readInt();
+        if (length < 0)
+        {
+            return null;
+        }
+        byte[] bytes = in.readNBytes(length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.employeeDetails.Audit;
+
+import com.example.employeeDetails.Entity.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Drains the audit journal into audit_logs in batches and checkpoints what has been written.
+// While the database is unreachable it backs off and retries; the journal keeps growing on disk meanwhile.
+// Delivery is at-least-once: a crash between a batch commit and its checkpoint replays that batch.
+// A batch that keeps failing, or fails on its data, is replayed record by record so a poison record is
+// dead-lettered instead of blocking everything behind it.
+@Component
+@ConditionalOnProperty(name = "audit.journal.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditJournalReplayer implements SmartLifecycle
+{
+
+    private static final Logger log = LoggerFactory.getLogger(AuditJournalReplayer.class);
+    private static final long MAX_RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final String DEAD_LETTER_SOURCE = "journal";
+
+    private final AuditJournal auditJournal;
+    private final AuditBatchWriter auditBatchWriter;
+    private final AuditDeadLetters auditDeadLetters;
+    private final int batchSize;
+    private final int maxBatchAttempts;
+    private final long pollIntervalNanos;
+    private final Counter replayedEvents;
+
+    private volatile boolean running;
+    private volatile Thread replayer;
+
+    public AuditJournalReplayer(AuditJournal auditJournal, AuditBatchWriter auditBatchWriter, AuditDeadLetters auditDeadLetters, MeterRegistry meterRegistry,
+                                @Value("${audit.pipeline.batch-size:100}") int batchSize,
+                                @Value("${audit.journal.replay-max-batch-attempts:5}") int maxBatchAttempts,
+                                @Value("${audit.journal.replay-interval:200ms}") Duration pollInterval)
+    {
+        this.auditJournal = auditJournal;
+        this.auditBatchWriter = auditBatchWriter;
+        this.auditDeadLetters = auditDeadLetters;
+        this.batchSize = batchSize;
+        this.maxBatchAttempts = maxBatchAttempts;
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.replayedEvents = Counter.builder("audit.journal.replayed").register(meterRegistry);
+    }
+
+    @Override
+    public void start()
+    {
+        running = true;
+        replayer = Thread.ofPlatform().name("audit-journal-replayer").daemon(true).start(this::runReplayer);
+    }
+
+    @Override
+    public void stop()
+    {
+        // Anything not yet replayed stays in the journal and is picked up on the next start
+        running = false;
+        Thread thread = replayer;
+        if (thread != null)
+        {
+            LockSupport.unpark(thread);
+            try
+            {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning()
+    {
+        return running;
+    }
+
+    @Override
+    public int getPhase()
+    {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runReplayer()
+    {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        long retryBackoffNanos = 0;
+        long failedFrom = -1;
+        int failedAttempts = 0;
+
+        while (running)
+        {
+            try
+            {
+                long from = auditJournal.checkpointPosition();
+                batch.clear();
+                long next = auditJournal.read(from, batch, batchSize, this::deadLetterPayload);
+                if (batch.isEmpty())
+                {
+                    if (next != from)
+                    {
+                        auditJournal.checkpoint(next);  // only undecodable records in this range
+                        continue;
+                    }
+                    LockSupport.parkNanos(pollIntervalNanos);
+                    continue;
+                }
+
+                boolean isolate = from == failedFrom && failedAttempts >= maxBatchAttempts;
+                try
+                {
+                    if (isolate)
+                    {
+                        replayOneByOne(from, next);
+                    }
+                    else
+                    {
+                        auditBatchWriter.writeBatch(batch);
+                        auditJournal.checkpoint(next);
+                        replayedEvents.increment(batch.size());
+                    }
+                    failedFrom = -1;
+                    failedAttempts = 0;
+                    retryBackoffNanos = 0;
+                }
+                catch (Exception e)
+                {
+                    failedAttempts = from == failedFrom ? failedAttempts + 1 : 1;
+                    failedFrom = from;
+                    if (!isolate && AuditDeadLetters.isPoison(e))
+                    {
+                        // Retrying the whole batch cannot succeed; go straight to record-by-record replay
+                        failedAttempts = maxBatchAttempts;
+                        continue;
+                    }
+                    throw e;
+                }
+            }
+            catch (Exception e)
+            {
+                retryBackoffNanos = Math.min(MAX_RETRY_BACKOFF_NANOS, Math.max(TimeUnit.MILLISECONDS.toNanos(250), retryBackoffNanos * 2));
+                log.warn("Audit journal replay failed, retrying in {} ms: {}", TimeUnit.NANOSECONDS.toMillis(retryBackoffNanos), e.getMessage());
+                LockSupport.parkNanos(retryBackoffNanos);
+            }
+        }
+    }
+
+    // Writes and checkpoints one record at a time; records rejected for their data are dead-lettered, any other
+    // failure (database down) propagates and leaves the checkpoint at the first record not yet written
+    private void replayOneByOne(long from, long end) throws IOException
+    {
+        List<AuditLog> single = new ArrayList<>(1);
+        long position = from;
+        while (position < end)
+        {
+            single.clear();
+            long next = auditJournal.read(position, single, 1, this::deadLetterPayload);
+            if (!single.isEmpty())
+            {
+                try
+                {
+                    auditBatchWriter.writeBatch(single);
+                    replayedEvents.increment();
+                }
+                catch (RuntimeException e)
+                {
+                    if (!AuditDeadLetters.isPoison(e))
+                    {
+                        throw e;
+                    }
+                    log.error("Dead-lettering journaled audit event {} for {}: {}", single.get(0).getAction(), single.get(0).getEmployeeId(), e.getMessage());
+                    auditDeadLetters.record(DEAD_LETTER_SOURCE, single.get(0), e);
+                }
+            }
+            auditJournal.checkpoint(next);
+            if (next == position)
+            {
+                break;
+            }
+            position = next;
+        }
+    }
+
+    private void deadLetterPayload(byte[] payload, RuntimeException failure)
+    {
+        log.error("Dead-lettering undecodable audit journal record of {} bytes: {}", payload.length, failure.getMessage());
+        auditDeadLetters.recordPayload(DEAD_LETTER_SOURCE, payload, failure);
+    }
+}
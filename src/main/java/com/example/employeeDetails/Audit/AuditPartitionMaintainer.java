@@ -0,0 +1,81 @@
+package com.example.employeeDetails.Audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+// Keeps pf_audit_logs_month (db/audit-logs-month-partitioning.sql) a few months ahead of the clock. Splitting a
+// boundary off the empty tail partition is a metadata-only change; once rows exist past the last boundary the
+// split has to move them, and every later month piles into that one partition. Does nothing on a database
+// where the partition function was never created. Merging old, empty boundaries stays a manual step.
+@Component
+@ConditionalOnProperty(name = "audit.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditPartitionMaintainer
+{
+
+    private static final Logger log = LoggerFactory.getLogger(AuditPartitionMaintainer.class);
+
+    private static final String LAST_BOUNDARY_SQL =
+            "SELECT CAST(MAX(prv.value) AS DATETIME2) FROM sys.partition_range_values prv " +
+            "JOIN sys.partition_functions pf ON pf.function_id = prv.function_id WHERE pf.name = 'pf_audit_logs_month'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final String filegroup;
+    private final Counter splits;
+
+    public AuditPartitionMaintainer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                                    @Value("${audit.partitions.months-ahead:3}") int monthsAhead,
+                                    @Value("${audit.partitions.filegroup:PRIMARY}") String filegroup)
+    {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = Math.max(1, monthsAhead);
+        this.filegroup = filegroup;
+        this.splits = Counter.builder("audit.partitions.splits").register(meterRegistry);
+    }
+
+    // Daily, so a missed run or a failed split is retried long before the last boundary is reached
+    @Scheduled(cron = "${audit.partitions.cron:0 15 3 * * *}")
+    public void run()
+    {
+        try
+        {
+            extend(LocalDate.now());
+        }
+        catch (Exception e)
+        {
+            log.warn("Audit partition maintenance failed, retrying on the next run: {}", e.getMessage());
+        }
+    }
+
+    // Adds monthly boundaries until the first day of the month monthsAhead months after today exists
+    public void extend(LocalDate today)
+    {
+        Timestamp last = jdbcTemplate.queryForObject(LAST_BOUNDARY_SQL, Timestamp.class);
+        if (last == null)
+        {
+            return;  // audit_logs is not partitioned
+        }
+
+        LocalDate target = today.withDayOfMonth(1).plusMonths(monthsAhead);
+        LocalDate boundary = last.toLocalDateTime().toLocalDate();
+        while (boundary.isBefore(target))
+        {
+            boundary = boundary.withDayOfMonth(1).plusMonths(1);
+            // The new partition is placed on the NEXT USED filegroup, which is consumed by each split
+            jdbcTemplate.execute("ALTER PARTITION SCHEME ps_audit_logs_month NEXT USED [" + filegroup.replace("]", "]]") + "]");
+            jdbcTemplate.execute("ALTER PARTITION FUNCTION pf_audit_logs_month() SPLIT RANGE ('" + boundary + "')");
+            splits.increment();
+            log.info("Added audit_logs partition boundary {}", boundary);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.employeeDetails.Audit;
+
+import com.example.employeeDetails.Entity.AuditLog;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Bounded lock-free multi-producer / single-consumer queue of audit events.
+// Each slot carries a sequence number: producers claim a slot with one CAS on the tail and
+// publish it by advancing the slot sequence; the single consumer frees it the same way.
+public class AuditRingBuffer
+{
+
+    private final int mask;
+    private final AuditLog[] slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    public AuditRingBuffer(int requestedCapacity)
+    {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AuditLog[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++)
+        {
+            sequences.set(i, i);
+        }
+    }
+
+    // Returns false when the buffer is full
+    public boolean offer(AuditLog auditLog)
+    {
+        long position = tail.get();
+        while (true)
+        {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0)
+            {
+                if (tail.compareAndSet(position, position + 1))
+                {
+                    slots[index] = auditLog;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            }
+            else if (difference < 0)
+            {
+                return false;
+            }
+            else
+            {
+                position = tail.get();
+            }
+        }
+    }
+
+    // Single consumer only
+    public int drainTo(List<AuditLog> target, int maxElements)
+    {
+        int drained = 0;
+        long position = head.get();
+        while (drained < maxElements)
+        {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1)
+            {
+                break;  // empty, or the producer that claimed this slot has not published yet
+            }
+            target.add(slots[index]);
+            slots[index] = null;
+            sequences.set(index, position + mask + 1);
+            position++;
+            drained++;
+        }
+        head.set(position);
+        return drained;
+    }
+
+    public int size()
+    {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity()
+    {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.employeeDetails.Audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Hourly audit event counts per action and dimension (ALL, SUBJECT and, when known, DEPARTMENT), counted on the
+// audit write path and merged into audit_rollups every minute. Dashboard queries read one row per bucket
+// instead of scanning audit_logs; counts not yet flushed are added in, so results are current.
+@Component
+public class AuditRollups
+{
+
+    public static final String ALL = "ALL";
+    public static final String SUBJECT = "SUBJECT";
+    public static final String DEPARTMENT = "DEPARTMENT";
+
+    private static final String MERGE_SQL =
+            "MERGE audit_rollups WITH (HOLDLOCK) AS target " +
+            "USING (VALUES (?, ?, ?, ?, ?)) AS source (action, dimension, dimension_value, bucket_start, event_count) " +
+            "ON target.action = source.action AND target.dimension = source.dimension " +
+            "AND target.dimension_value = source.dimension_value AND target.bucket_start = source.bucket_start " +
+            "WHEN MATCHED THEN UPDATE SET event_count = target.event_count + source.event_count " +
+            "WHEN NOT MATCHED THEN INSERT (action, dimension, dimension_value, bucket_start, event_count) " +
+            "VALUES (source.action, source.dimension, source.dimension_value, source.bucket_start, source.event_count);";
+
+    private static final String SELECT_SQL =
+            "SELECT bucket_start, event_count FROM audit_rollups " +
+            "WHERE action = ? AND dimension = ? AND dimension_value = ? AND bucket_start >= ? AND bucket_start < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<RollupKey, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Counter flushedRows;
+    private final Counter failedFlushes;
+
+    public AuditRollups(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry)
+    {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.flushedRows = Counter.builder("audit.rollups.flushed").register(meterRegistry);
+        this.failedFlushes = Counter.builder("audit.rollups.flush.failures").register(meterRegistry);
+        Gauge.builder("audit.rollups.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    public record RollupKey(String action, String dimension, String dimensionValue, LocalDateTime bucketStart)
+    {
+    }
+
+    public record Bucket(LocalDateTime bucketStart, long count)
+    {
+    }
+
+    public void record(String action, String subject, String department, LocalDateTime timestamp)
+    {
+        LocalDateTime bucket = timestamp.truncatedTo(ChronoUnit.HOURS);
+        increment(new RollupKey(action, ALL, "*", bucket));
+        if (subject != null)
+        {
+            increment(new RollupKey(action, SUBJECT, subject, bucket));
+        }
+        if (department != null)
+        {
+            increment(new RollupKey(action, DEPARTMENT, department, bucket));
+        }
+    }
+
+    // Counts per hour or per day (daily = sum of the day's hours), oldest first
+    public List<Bucket> query(String action, String dimension, String dimensionValue, LocalDateTime from, LocalDateTime to, boolean daily)
+    {
+        TreeMap<LocalDateTime, Long> counts = new TreeMap<>();
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            counts.merge(bucketOf(rs.getTimestamp(1).toLocalDateTime(), daily), rs.getLong(2), Long::sum);
+        }, action, dimension, dimensionValue, Timestamp.valueOf(from), Timestamp.valueOf(to));
+
+        pending.forEach((key, adder) -> {
+            if (key.action().equals(action) && key.dimension().equals(dimension) && key.dimensionValue().equals(dimensionValue)
+                    && !key.bucketStart().isBefore(from) && key.bucketStart().isBefore(to))
+            {
+                long count = adder.sum();
+                if (count > 0)
+                {
+                    counts.merge(bucketOf(key.bucketStart(), daily), count, Long::sum);
+                }
+            }
+        });
+
+        List<Bucket> buckets = new ArrayList<>(counts.size());
+        counts.forEach((bucketStart, count) -> buckets.add(new Bucket(bucketStart, count)));
+        return buckets;
+    }
+
+    @Scheduled(fixedDelayString = "${audit.rollups.flush-interval:60s}")
+    public void flush()
+    {
+        // Buckets two hours old no longer receive events, so their entries can leave the map once flushed
+        LocalDateTime retireBefore = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(1);
+        List<RollupKey> keys = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<RollupKey, LongAdder> entry : pending.entrySet())
+        {
+            RollupKey key = entry.getKey();
+            if (key.bucketStart().isBefore(retireBefore))
+            {
+                pending.remove(key, entry.getValue());
+            }
+            long count = entry.getValue().sumThenReset();
+            if (count > 0)
+            {
+                keys.add(key);
+                rows.add(new Object[]{key.action(), key.dimension(), key.dimensionValue(), Timestamp.valueOf(key.bucketStart()), count});
+            }
+        }
+        if (rows.isEmpty())
+        {
+            return;
+        }
+
+        try
+        {
+            // One transaction for the whole batch: a failure rolls every row back before the counts are re-queued
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(MERGE_SQL, rows));
+            flushedRows.increment(rows.size());
+        }
+        catch (Exception e)
+        {
+            // Put the counts back so the next flush retries them
+            failedFlushes.increment();
+            for (int i = 0; i < keys.size(); i++)
+            {
+                pending.computeIfAbsent(keys.get(i), k -> new LongAdder()).add((Long) rows.get(i)[4]);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown()
+    {
+        flush();
+    }
+
+    private void increment(RollupKey key)
+    {
+        LongAdder adder = pending.get(key);
+        if (adder == null)
+        {
+            adder = pending.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    private static LocalDateTime bucketOf(LocalDateTime hour, boolean daily)
+    {
+        return daily ? hour.truncatedTo(ChronoUnit.DAYS) : hour;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.employeeDetails.Cache;
+
+import com.example.employeeDetails.dto.EmployeeWithPoliciesDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Bounded response cache backed by Caffeine (W-TinyLFU eviction, expiry checked on read)
+public class CaffeineResponseCache implements ResponseCache
+{
+
+    private final Cache<ResponseCacheKey, EmployeeWithPoliciesDTO> cache;
+
+    // Reverse index: employeeId -> cached variants of that employee
+    private final ConcurrentHashMap<String, Set<ResponseCacheKey>> keysByEmployee = new ConcurrentHashMap<>();
+
+    public CaffeineResponseCache(long maximumSize, Duration timeToLive, MeterRegistry meterRegistry, String cacheName)
+    {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                // Runs atomically with size/expiry removals, so the index never outlives an evicted entry for long
+                .evictionListener((ResponseCacheKey key, EmployeeWithPoliciesDTO value, RemovalCause cause) -> unindex(key))
+                .recordStats()
+                .build();
+
+        // Publishes cache.gets (hit/miss), cache.puts, cache.evictions and cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+    }
+
+    @Override
+    public EmployeeWithPoliciesDTO get(ResponseCacheKey key)
+    {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void put(ResponseCacheKey key, EmployeeWithPoliciesDTO response)
+    {
+        // Insert before indexing: a stale index entry is harmless, an unindexed cache entry would survive invalidation.
+        // The add runs inside compute, atomically with invalidateEmployee's removal, so it can never land in a key
+        // set that has already been taken out of the index.
+        cache.put(key, response);
+        keysByEmployee.compute(key.employeeId(), (id, keys) -> {
+            Set<ResponseCacheKey> indexed = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            indexed.add(key);
+            return indexed;
+        });
+    }
+
+    @Override
+    public void invalidate(ResponseCacheKey key)
+    {
+        cache.invalidate(key);
+        unindex(key);
+    }
+
+    @Override
+    public void invalidateEmployee(String employeeId)
+    {
+        // Detach the key set atomically, then invalidate outside the index lock: the eviction listener takes the
+        // index lock while Caffeine holds its own, so calling into the cache under compute could deadlock
+        Set<ResponseCacheKey> keys = detach(employeeId);
+        if (keys != null)
+        {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    @Override
+    public void invalidateAll()
+    {
+        cache.invalidateAll();
+        keysByEmployee.clear();
+    }
+
+    @Override
+    public long size()
+    {
+        return cache.estimatedSize();
+    }
+
+    private Set<ResponseCacheKey> detach(String employeeId)
+    {
+        Set<ResponseCacheKey> detached = ConcurrentHashMap.newKeySet();
+        keysByEmployee.compute(employeeId, (id, keys) -> {
+            if (keys != null)
+            {
+                detached.addAll(keys);
+            }
+            return null;
+        });
+        return detached.isEmpty() ? null : detached;
+    }
+
+    private void unindex(ResponseCacheKey key)
+    {
+        keysByEmployee.computeIfPresent(key.employeeId(), (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+}
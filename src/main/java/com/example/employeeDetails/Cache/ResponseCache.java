@@ -0,0 +1,22 @@
+package com.example.employeeDetails.Cache;
+
+import com.example.employeeDetails.dto.EmployeeWithPoliciesDTO;
+
+// Cache for fully assembled employee responses, one entry per employee and security level
+public interface ResponseCache
+{
+
+    // Returns the cached response, or null when absent or expired
+    EmployeeWithPoliciesDTO get(ResponseCacheKey key);
+
+    void put(ResponseCacheKey key, EmployeeWithPoliciesDTO response);
+
+    void invalidate(ResponseCacheKey key);
+
+    // Drops every cached variant of the employee; cost is proportional to the number of variants
+    void invalidateEmployee(String employeeId);
+
+    void invalidateAll();
+
+    long size();
+}
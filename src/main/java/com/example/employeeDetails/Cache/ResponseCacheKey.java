@@ -0,0 +1,17 @@
+package com.example.employeeDetails.Cache;
+
+import com.example.employeeDetails.Entity.SecurityLevel;
+import com.example.employeeDetails.dto.ResponseSection;
+
+import java.util.Set;
+
+// Identifies one cached response variant: the employee as seen from a given security level,
+// restricted to a set of response sections (bit mask of ResponseSection ordinals)
+public record ResponseCacheKey(String employeeId, SecurityLevel securityLevel, int sections)
+{
+
+    public ResponseCacheKey(String employeeId, SecurityLevel securityLevel, Set<ResponseSection> sections)
+    {
+        this(employeeId, securityLevel, ResponseSection.mask(sections));
+    }
+}
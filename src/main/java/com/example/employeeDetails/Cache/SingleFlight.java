@@ -0,0 +1,73 @@
+package com.example.employeeDetails.Cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Collapses concurrent computations for the same key into one; late callers wait for the leader's result
+public class SingleFlight<K, V>
+{
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCalls;
+    private final Counter coalescedCalls;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry)
+    {
+        this.leaderCalls = Counter.builder("singleflight.calls").tag("name", name).tag("role", "leader").register(meterRegistry);
+        this.coalescedCalls = Counter.builder("singleflight.calls").tag("name", name).tag("role", "coalesced").register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader)
+    {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null)
+        {
+            coalescedCalls.increment();
+            return await(existing);
+        }
+
+        leaderCalls.increment();
+        try
+        {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        }
+        catch (RuntimeException | Error e)
+        {
+            call.completeExceptionally(e);
+            throw e;
+        }
+        finally
+        {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private V await(CompletableFuture<V> call)
+    {
+        try
+        {
+            return call.join();
+        }
+        catch (CompletionException e)
+        {
+            // Followers see the leader's failure as if they had run the loader themselves
+            if (e.getCause() instanceof RuntimeException cause)
+            {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause)
+            {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
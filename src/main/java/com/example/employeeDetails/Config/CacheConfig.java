@@ -0,0 +1,23 @@
+package com.example.employeeDetails.Config;
+
+import com.example.employeeDetails.Cache.CaffeineResponseCache;
+import com.example.employeeDetails.Cache.ResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(ResponseCache.class)
+    public ResponseCache employeeResponseCache(@Value("${employee.cache.maximum-size:10000}") long maximumSize,
+                                               @Value("${employee.cache.time-to-live:30m}") Duration timeToLive,
+                                               MeterRegistry meterRegistry) {
+        return new CaffeineResponseCache(maximumSize, timeToLive, meterRegistry, "employeeResponseCache");
+    }
+}
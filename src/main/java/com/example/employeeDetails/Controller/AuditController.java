@@ -0,0 +1,99 @@
+package com.example.employeeDetails.Controller;
+
+import com.example.employeeDetails.Service.AuditQueryService;
+import com.example.employeeDetails.Service.AuditQueryService.AuditFilter;
+import com.example.employeeDetails.dto.AuditPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Controller
+@RequiredArgsConstructor
+public class AuditController
+{
+
+    private final AuditQueryService auditQueryService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping("/audit")
+    public ResponseEntity<AuditPage> getAuditPage(@RequestParam String sessionId, @RequestParam(required = false) String employeeId, @RequestParam(required = false) String action,
+                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                  @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "100") int size)
+    {
+        try
+        {
+            return ResponseEntity.ok(auditQueryService.page(new AuditFilter(employeeId, action, from, to), cursor, size, sessionId));
+        }
+        catch (SecurityException e)
+        {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        catch (IllegalArgumentException e)
+        {
+            return ResponseEntity.badRequest().build();
+        }
+        catch (Exception e)
+        {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping(value = "/audit/export", produces = NdjsonResponses.NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportAudit(@RequestParam String sessionId, @RequestParam(required = false) String employeeId, @RequestParam(required = false) String action,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to)
+    {
+        AuditFilter filter;
+        try
+        {
+            filter = new AuditFilter(employeeId, action, from, to);
+        }
+        catch (IllegalArgumentException e)
+        {
+            return ResponseEntity.badRequest().build();
+        }
+        // Reject before the stream starts, while a status code can still be sent
+        if (!auditQueryService.canReadHistory(sessionId))
+        {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return NdjsonResponses.stream(objectMapper, sink -> auditQueryService.export(filter, sessionId, sink));
+    }
+
+    // Puts the rows of one archive file (audit.archive.directory/<month>/<file>) back into audit_logs
+    @PostMapping("/audit/archive/restore")
+    public ResponseEntity<Map<String, Integer>> restoreArchive(@RequestParam String sessionId, @RequestParam String month, @RequestParam String file)
+    {
+        try
+        {
+            return ResponseEntity.ok(Map.of("restored", auditQueryService.restoreArchive(month, file, sessionId)));
+        }
+        catch (SecurityException e)
+        {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        catch (IllegalArgumentException e)
+        {
+            return ResponseEntity.badRequest().build();
+        }
+        catch (IllegalStateException e)
+        {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        catch (Exception e)
+        {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
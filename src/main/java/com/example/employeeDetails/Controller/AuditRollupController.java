@@ -0,0 +1,53 @@
+package com.example.employeeDetails.Controller;
+
+import com.example.employeeDetails.Audit.AuditRollups;
+import com.example.employeeDetails.Service.AuditQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+@Controller
+@RequiredArgsConstructor
+public class AuditRollupController
+{
+
+    private static final Set<String> DIMENSIONS = Set.of(AuditRollups.ALL, AuditRollups.SUBJECT, AuditRollups.DEPARTMENT);
+
+    private final AuditRollups auditRollups;
+    private final AuditQueryService auditQueryService;
+
+    // e.g. /audit/rollups?action=EMPLOYEE_ACCESS&dimension=DEPARTMENT&value=HR&from=...&to=...&granularity=HOUR
+    @GetMapping("/audit/rollups")
+    public ResponseEntity<List<AuditRollups.Bucket>> getRollups(@RequestParam String sessionId, @RequestParam String action,
+                                                                @RequestParam(defaultValue = AuditRollups.ALL) String dimension,
+                                                                @RequestParam(defaultValue = "*") String value,
+                                                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                                @RequestParam(defaultValue = "HOUR") String granularity)
+    {
+        if (!DIMENSIONS.contains(dimension) || !(granularity.equals("HOUR") || granularity.equals("DAY")) || !from.isBefore(to))
+        {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!auditQueryService.canReadHistory(sessionId))
+        {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try
+        {
+            return ResponseEntity.ok(auditRollups.query(action, dimension, value, from, to, granularity.equals("DAY")));
+        }
+        catch (Exception e)
+        {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -3,23 +3,38 @@ package com.example.employeeDetails.Controller;
 import com.example.employeeDetails.Service.EmployeeDetailsService;
 import com.example.employeeDetails.Service.SecurityService;
 import com.example.employeeDetails.dto.EmployeeWithPoliciesDTO;
+import com.example.employeeDetails.dto.ResponseSection;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 
-import java.util.UUID;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 @Controller
 @RequiredArgsConstructor
 public class EmployeeDetailsController
 {
 
+    private static final String SECURITY_SESSION_ATTRIBUTE = "securitySessionId";
+
+    // The form page only renders the employee and its policies
+    private static final Set<ResponseSection> PAGE_SECTIONS = Set.copyOf(EnumSet.of(ResponseSection.EMPLOYEE, ResponseSection.POLICIES));
+
     private final SecurityService securityService;
     private final EmployeeDetailsService employeeDetailsService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/employee-details")
     public String getEmployeeDetailsPage(Model model)
@@ -29,7 +44,7 @@ public class EmployeeDetailsController
     }
 
     @PostMapping("/employee-details")
-    public String handleEmployeeDetails(@RequestParam String employeeId, @RequestParam(required = false) String sessionId, @RequestParam(required = false) String action, @RequestParam(required = false) String name, @RequestParam(required = false) String department, @RequestParam(required = false) String email, @RequestParam(required = false) String phone, Model model)
+    public String handleEmployeeDetails(@RequestParam String employeeId, @RequestParam(required = false) String sessionId, @RequestParam(required = false) String action, @RequestParam(required = false) String name, @RequestParam(required = false) String department, @RequestParam(required = false) String email, @RequestParam(required = false) String phone, Model model, HttpSession httpSession)
     {
 
         if (employeeId == null || employeeId.trim().isEmpty())
@@ -41,8 +56,9 @@ public class EmployeeDetailsController
         try
         {
 
-            sessionId = UUID.randomUUID().toString();
-            securityService.createSecurityContext("WEB_USER", "BASIC", sessionId);
+            // The security context is bound to the HTTP session, so repeat posts skip creating a new one
+            sessionId = securityService.resolveWebSession((String) httpSession.getAttribute(SECURITY_SESSION_ATTRIBUTE));
+            httpSession.setAttribute(SECURITY_SESSION_ATTRIBUTE, sessionId);
             if ("update".equalsIgnoreCase(action))
             {
                 employeeDetailsService.updateEmployee(employeeId, name, department, email, phone, sessionId);
@@ -57,7 +73,7 @@ public class EmployeeDetailsController
                 return "employee-details";
             }
 
-            EmployeeWithPoliciesDTO dto = employeeDetailsService.getEmployeeWithPolicies(employeeId, sessionId);
+            EmployeeWithPoliciesDTO dto = employeeDetailsService.getEmployeeWithPolicies(employeeId, sessionId, PAGE_SECTIONS);
             if (dto != null && dto.getEmployee() != null)
             {
                 model.addAttribute("employee", dto.getEmployee());
@@ -77,13 +93,18 @@ public class EmployeeDetailsController
     }
 
     @PostMapping("/employee-details-client")
-    public ResponseEntity<EmployeeWithPoliciesDTO> handleEmployeeDetailsClient(@RequestParam String employeeId, @RequestParam String sessionId, @RequestParam(required = false) String action, @RequestParam(required = false) String name, @RequestParam(required = false) String department, @RequestParam(required = false) String email, @RequestParam(required = false) String phone)
+    public ResponseEntity<EmployeeWithPoliciesDTO> handleEmployeeDetailsClient(@RequestParam String employeeId, @RequestParam String sessionId, @RequestParam(required = false) String action, @RequestParam(required = false) String name, @RequestParam(required = false) String department, @RequestParam(required = false) String email, @RequestParam(required = false) String phone, @RequestParam(required = false) String fields)
     {
 
         if (employeeId == null || employeeId.trim().isEmpty())
         {
             return ResponseEntity.badRequest().build();
         }
+        Set<ResponseSection> sections = parseFields(fields);
+        if (sections == null)
+        {
+            return ResponseEntity.badRequest().build();
+        }
         try
         {
             if ("update".equalsIgnoreCase(action))
@@ -96,8 +117,8 @@ public class EmployeeDetailsController
                 return ResponseEntity.ok(new EmployeeWithPoliciesDTO());
             }
 
-            // Always fetch the employee data
-            EmployeeWithPoliciesDTO dto = employeeDetailsService.getEmployeeWithPolicies(employeeId, sessionId);
+            // Always fetch the employee data, restricted to the requested sections
+            EmployeeWithPoliciesDTO dto = employeeDetailsService.getEmployeeWithPolicies(employeeId, sessionId, sections);
 
             if (dto == null || dto.getEmployee() == null)
             {
@@ -112,5 +133,51 @@ public class EmployeeDetailsController
             return ResponseEntity.internalServerError().build();
         }
     }
-}
 
+    @PostMapping(value = "/employee-details-client/batch", produces = NdjsonResponses.NDJSON)
+    public ResponseEntity<StreamingResponseBody> handleEmployeeDetailsClientBatch(@RequestBody List<String> employeeIds, @RequestParam String sessionId)
+    {
+
+        if (employeeIds == null || employeeIds.isEmpty() || !employeeDetailsService.isWithinBatchLimit(employeeIds.size()))
+        {
+            return ResponseEntity.badRequest().build();
+        }
+        // Reject before the stream starts, while a status code can still be sent
+        if (!securityService.validateSession(sessionId, "READ"))
+        {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        // One JSON document per line, written as each chunk of employees is resolved
+        return NdjsonResponses.stream(objectMapper, sink -> employeeDetailsService.streamEmployeesWithPolicies(employeeIds, sessionId, sink));
+    }
+
+    @PostMapping("/employee-details-client-reactive")
+    public Mono<ResponseEntity<EmployeeWithPoliciesDTO>> handleEmployeeDetailsClientReactive(@RequestParam String employeeId, @RequestParam String sessionId, @RequestParam(required = false) String fields)
+    {
+
+        Set<ResponseSection> sections = parseFields(fields);
+        if (employeeId == null || employeeId.trim().isEmpty() || sections == null)
+        {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+
+        // Read-only counterpart of /employee-details-client; the request thread is released while the lookup runs
+        return employeeDetailsService.getEmployeeWithPoliciesReactive(employeeId, sessionId, sections)
+                .map(dto -> dto.getEmployee() == null ? ResponseEntity.notFound().<EmployeeWithPoliciesDTO>build() : ResponseEntity.ok(dto))
+                .onErrorResume(e -> Mono.just(ResponseEntity.internalServerError().build()));
+    }
+
+    // fields=employee,policies,... selects top-level response sections; null when a name is not a known section
+    private static Set<ResponseSection> parseFields(String fields)
+    {
+        try
+        {
+            return ResponseSection.parse(fields);
+        }
+        catch (IllegalArgumentException e)
+        {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.employeeDetails.Controller;
+
+import com.example.employeeDetails.Entity.EmployeeStatus;
+import com.example.employeeDetails.Service.EmployeeDirectoryService;
+import com.example.employeeDetails.Service.SecurityService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.function.Consumer;
+
+@Controller
+@RequiredArgsConstructor
+public class EmployeeDirectoryController
+{
+
+    private final SecurityService securityService;
+    private final EmployeeDirectoryService employeeDirectoryService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(value = "/employees/department/{department}", produces = NdjsonResponses.NDJSON)
+    public ResponseEntity<StreamingResponseBody> listByDepartment(@PathVariable String department, @RequestParam String sessionId)
+    {
+        return listing(sessionId, sink -> employeeDirectoryService.streamByDepartment(department, sessionId, sink));
+    }
+
+    @GetMapping(value = "/employees/status/{status}", produces = NdjsonResponses.NDJSON)
+    public ResponseEntity<StreamingResponseBody> listByStatus(@PathVariable String status, @RequestParam String sessionId)
+    {
+        EmployeeStatus employeeStatus;
+        try
+        {
+            employeeStatus = EmployeeStatus.valueOf(status.toUpperCase());
+        }
+        catch (IllegalArgumentException e)
+        {
+            return ResponseEntity.badRequest().build();
+        }
+        return listing(sessionId, sink -> employeeDirectoryService.streamByStatus(employeeStatus, sessionId, sink));
+    }
+
+    @GetMapping(value = "/employees/manager/{managerId}", produces = NdjsonResponses.NDJSON)
+    public ResponseEntity<StreamingResponseBody> listByManager(@PathVariable String managerId, @RequestParam String sessionId)
+    {
+        return listing(sessionId, sink -> employeeDirectoryService.streamByManager(managerId, sessionId, sink));
+    }
+
+    private ResponseEntity<StreamingResponseBody> listing(String sessionId, Consumer<Consumer<Object>> producer)
+    {
+        // Reject before the stream starts, while a status code can still be sent
+        if (!securityService.validateSession(sessionId, "READ"))
+        {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return NdjsonResponses.stream(objectMapper, producer);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.employeeDetails.Controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+// Newline-delimited JSON responses: the producer hands each element to the sink and it is written immediately,
+// so nothing beyond the element in flight is held for the response
+final class NdjsonResponses
+{
+
+    static final String NDJSON = "application/x-ndjson";
+
+    private NdjsonResponses()
+    {
+    }
+
+    static ResponseEntity<StreamingResponseBody> stream(ObjectMapper objectMapper, Consumer<Consumer<Object>> producer)
+    {
+        StreamingResponseBody body = out -> {
+            try
+            {
+                producer.accept(element -> {
+                    try
+                    {
+                        // writeValueAsBytes rather than writeValue(out, ...), which would close the response stream
+                        out.write(objectMapper.writeValueAsBytes(element));
+                        out.write('\n');
+                    }
+                    catch (IOException e)
+                    {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            catch (UncheckedIOException e)
+            {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.employeeDetails.Controller;
+
+import com.example.employeeDetails.Service.OrgHierarchyService;
+import com.example.employeeDetails.Service.SecurityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Controller
+@RequiredArgsConstructor
+public class OrgHierarchyController
+{
+
+    private final SecurityService securityService;
+    private final OrgHierarchyService orgHierarchyService;
+
+    @GetMapping("/employees/{employeeId}/chain")
+    public ResponseEntity<List<String>> chainToRoot(@PathVariable String employeeId, @RequestParam String sessionId)
+    {
+        return authorized(sessionId, () -> orgHierarchyService.chainToRoot(employeeId));
+    }
+
+    @GetMapping("/employees/{employeeId}/reports")
+    public ResponseEntity<List<String>> directReports(@PathVariable String employeeId, @RequestParam String sessionId)
+    {
+        return authorized(sessionId, () -> orgHierarchyService.directReports(employeeId));
+    }
+
+    @GetMapping("/employees/{employeeId}/subtree")
+    public ResponseEntity<List<String>> subtree(@PathVariable String employeeId, @RequestParam String sessionId, @RequestParam(defaultValue = "0") int maxDepth)
+    {
+        return authorized(sessionId, () -> orgHierarchyService.subtree(employeeId, maxDepth));
+    }
+
+    @GetMapping("/employees/{employeeId}/span")
+    public ResponseEntity<Map<String, Integer>> spanOfControl(@PathVariable String employeeId, @RequestParam String sessionId)
+    {
+        return authorized(sessionId, () -> orgHierarchyService.spanOfControl(employeeId));
+    }
+
+    private <T> ResponseEntity<T> authorized(String sessionId, Supplier<T> query)
+    {
+        if (!securityService.validateSession(sessionId, "READ"))
+        {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(query.get());
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.employeeDetails.Entity;
+
+public enum AuditLevel
+{
+    BASIC,
+    DETAILED,
+    FULL
+}
@@ -0,0 +1,14 @@
+package com.example.employeeDetails.Entity;
+
+import jakarta.persistence.Converter;
+
+// An unknown audit level is treated as the most detailed
+@Converter
+public class AuditLevelConverter extends LenientEnumConverter<AuditLevel>
+{
+
+    public AuditLevelConverter()
+    {
+        super(AuditLevel.class, AuditLevel.FULL);
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.employeeDetails.Entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,8 +27,10 @@ import java.time.LocalDateTime;
 public class AuditLog
 {
 
+    // Sequence ids (pre-allocated in blocks) let Hibernate batch inserts; IDENTITY forces one round-trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_logs_seq")
+    @SequenceGenerator(name = "audit_logs_seq", sequenceName = "audit_logs_seq", allocationSize = 100)
     private Long id;
 
     @Column(name = "employee_id", nullable = false)
@@ -57,14 +61,16 @@ public class AuditLog
     @Column(name = "transaction_id")
     private String transactionId;
 
+    @Convert(converter = DataSecurityLevelConverter.class)
     @Column(name = "security_level")
-    private String securityLevel;
+    private SecurityLevel securityLevel;
 
     @Column(name = "compliance_required")
     private boolean complianceRequired;
 
+    @Convert(converter = AuditLevelConverter.class)
     @Column(name = "audit_level")
-    private String auditLevel = "BASIC";
+    private AuditLevel auditLevel = AuditLevel.BASIC;
 
     @Column(name = "encrypted_data")
     private boolean encryptedData;
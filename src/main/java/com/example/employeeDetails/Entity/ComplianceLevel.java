@@ -0,0 +1,9 @@
+package com.example.employeeDetails.Entity;
+
+public enum ComplianceLevel
+{
+    BASIC,
+    STANDARD,
+    ENHANCED,
+    STRICT
+}
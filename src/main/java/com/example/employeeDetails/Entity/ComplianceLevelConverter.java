@@ -0,0 +1,14 @@
+package com.example.employeeDetails.Entity;
+
+import jakarta.persistence.Converter;
+
+// An unknown compliance level gets the strictest handling
+@Converter
+public class ComplianceLevelConverter extends LenientEnumConverter<ComplianceLevel>
+{
+
+    public ComplianceLevelConverter()
+    {
+        super(ComplianceLevel.class, ComplianceLevel.STRICT);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.employeeDetails.Entity;
+
+import jakarta.persistence.Converter;
+
+// Security level of stored data (employees, audit rows): an unknown level is treated as the most sensitive
+@Converter
+public class DataSecurityLevelConverter extends LenientEnumConverter<SecurityLevel>
+{
+
+    public DataSecurityLevelConverter()
+    {
+        super(SecurityLevel.class, SecurityLevel.ADMIN);
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.employeeDetails.Entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
@@ -15,6 +17,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -43,11 +46,13 @@ public class Employee
     private String phone;
     private String managerId;
 
+    @Convert(converter = EmployeeStatusConverter.class)
     @Column(nullable = false)
-    private String status = "ACTIVE";
+    private EmployeeStatus status = EmployeeStatus.ACTIVE;
 
+    @Convert(converter = DataSecurityLevelConverter.class)
     @Column(nullable = false)
-    private String securityLevel = "BASIC";
+    private SecurityLevel securityLevel = SecurityLevel.BASIC;
 
     @CreationTimestamp
     @Column(name = "created_date", updatable = false)
@@ -64,7 +69,10 @@ public class Employee
     @Column(name = "access_count")
     private Integer accessCount = 0;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    // Only the write path loads the entity; permissions are fetched on access or via findPermissionsByEmployeeId
+    @ToString.Exclude
+    @JsonIgnore
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "employee_permissions", joinColumns = @JoinColumn(name = "employee_id"))
     @Column(name = "permission")
     private List<String> permissions;
@@ -0,0 +1,9 @@
+package com.example.employeeDetails.Entity;
+
+public enum EmployeeStatus
+{
+    ACTIVE,
+    INACTIVE,
+    ON_LEAVE,
+    TERMINATED
+}
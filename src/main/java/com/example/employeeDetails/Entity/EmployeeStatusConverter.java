@@ -0,0 +1,14 @@
+package com.example.employeeDetails.Entity;
+
+import jakarta.persistence.Converter;
+
+// An unknown status must not count as active
+@Converter
+public class EmployeeStatusConverter extends LenientEnumConverter<EmployeeStatus>
+{
+
+    public EmployeeStatusConverter()
+    {
+        super(EmployeeStatus.class, EmployeeStatus.INACTIVE);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.employeeDetails.Entity;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,8 +20,9 @@ public class HrPolicy
     private String policyId;
     private String description;
     private String category;
-    private String status = "ACTIVE";
-    private String requiredSecurityLevel = "BASIC";
+    private PolicyStatus status = PolicyStatus.ACTIVE;
+    @JsonDeserialize(using = LegacyPolicySecurityLevelDeserializer.class)
+    private SecurityLevel requiredSecurityLevel = SecurityLevel.BASIC;
     private String version = "1.0";
     private LocalDateTime effectiveDate;
     private LocalDateTime expiryDate;
@@ -0,0 +1,27 @@
+package com.example.employeeDetails.Entity;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+
+// Lenient binding for HrPolicy.requiredSecurityLevel as sent by the legacy policy service, which uses codes
+// this application does not know. An unrecognised requirement becomes ADMIN: the policy is then visible to the
+// fewest callers, so the fallback grants the least access. Only this field is lenient; every other
+// SecurityLevel bound from JSON rejects unknown values.
+public class LegacyPolicySecurityLevelDeserializer extends JsonDeserializer<SecurityLevel>
+{
+
+    @Override
+    public SecurityLevel deserialize(JsonParser parser, DeserializationContext context) throws IOException
+    {
+        String code = parser.getValueAsString();
+        if (code == null || code.isBlank())
+        {
+            return null;
+        }
+        SecurityLevel level = SecurityLevel.fromCode(code.trim());
+        return level != null ? level : SecurityLevel.ADMIN;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.employeeDetails.Entity;
+
+import jakarta.persistence.AttributeConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Stores an enum by name like @Enumerated(STRING), but reads case- and whitespace-insensitively and maps a value
+// outside the constant set to an explicit fallback instead of failing the whole row (and any stream reading it).
+// db/enum-columns-normalise.sql brings existing data into the constant sets; the fallback covers values written
+// later by other systems. Each unknown value is logged once.
+public abstract class LenientEnumConverter<E extends Enum<E>> implements AttributeConverter<E, String>
+{
+
+    private static final Logger log = LoggerFactory.getLogger(LenientEnumConverter.class);
+
+    private final Class<E> type;
+    private final E fallback;
+    private final Set<String> reportedValues = ConcurrentHashMap.newKeySet();
+
+    protected LenientEnumConverter(Class<E> type, E fallback)
+    {
+        this.type = type;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(E value)
+    {
+        return value != null ? value.name() : null;
+    }
+
+    @Override
+    public E convertToEntityAttribute(String value)
+    {
+        if (value == null)
+        {
+            return null;
+        }
+        String code = value.trim();
+        for (E constant : type.getEnumConstants())
+        {
+            if (constant.name().equalsIgnoreCase(code))
+            {
+                return constant;
+            }
+        }
+        if (reportedValues.size() < 100 && reportedValues.add(value))
+        {
+            log.warn("Unknown {} value '{}' in the database; reading it as {}", type.getSimpleName(), value, fallback);
+        }
+        return fallback;
+    }
+}
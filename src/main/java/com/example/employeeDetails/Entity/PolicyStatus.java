@@ -0,0 +1,30 @@
+package com.example.employeeDetails.Entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+public enum PolicyStatus
+{
+    ACTIVE,
+    INACTIVE,
+    DRAFT,
+    EXPIRED,
+    UNKNOWN;
+
+    // Policies come from the legacy service as JSON; a status added there must not fail the whole response
+    @JsonCreator
+    public static PolicyStatus fromCode(String code)
+    {
+        if (code == null || code.isEmpty())
+        {
+            return null;
+        }
+        for (PolicyStatus status : values())
+        {
+            if (status.name().equalsIgnoreCase(code))
+            {
+                return status;
+            }
+        }
+        return UNKNOWN;
+    }
+}
@@ -1,10 +1,17 @@
 package com.example.employeeDetails.Entity;
 
+import com.example.employeeDetails.Security.NameRegistry;
+import com.example.employeeDetails.Security.NameSet;
+import com.example.employeeDetails.Security.PermissionMaskConverter;
+import com.example.employeeDetails.Security.RoleMaskConverter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -27,8 +34,9 @@ public class SecurityContext {
     @Column(name = "user_id")
     private String userId;
 
+    @Convert(converter = SessionSecurityLevelConverter.class)
     @Column(name = "security_level")
-    private String securityLevel;
+    private SecurityLevel securityLevel;
 
     @Column(name = "ip_address")
     private String ipAddress;
@@ -48,23 +56,33 @@ public class SecurityContext {
     @Column(name = "active")
     private boolean active = true;
 
+    // Session secrets: persisted, but never part of an API response
+    @JsonIgnore
+    @ToString.Exclude
     @Column(name = "encryption_key")
     private String encryptionKey;
 
+    @JsonIgnore
+    @ToString.Exclude
     @Column(name = "signature")
     private String signature;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "security_permissions", joinColumns = @JoinColumn(name = "security_context_id"))
-    @Column(name = "permission")
-    private List<String> permissions = new ArrayList<>();
-
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "security_roles", joinColumns = @JoinColumn(name = "security_context_id"))
-    @Column(name = "role")
-    private List<String> roles = new ArrayList<>();
-
-    @ElementCollection(fetch = FetchType.EAGER)
+    // Permission and role names packed into bit sets; stored as comma-separated names in one column each
+    @JsonIgnore
+    @Convert(converter = PermissionMaskConverter.class)
+    @Column(name = "permissions", length = 512)
+    private NameSet permissionMask;
+
+    @JsonIgnore
+    @Convert(converter = RoleMaskConverter.class)
+    @Column(name = "roles", length = 512)
+    private NameSet roleMask;
+
+    // Rarely read, so not fetched with the session
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "security_attributes", joinColumns = @JoinColumn(name = "security_context_id"))
     @MapKeyColumn(name = "attribute_key")
     @Column(name = "attribute_value")
@@ -73,6 +91,8 @@ public class SecurityContext {
     @Column(name = "multi_factor_enabled")
     private boolean multiFactorEnabled = false;
 
+    @JsonIgnore
+    @ToString.Exclude
     @Column(name = "mfa_token")
     private String mfaToken;
 
@@ -82,8 +102,9 @@ public class SecurityContext {
     @Column(name = "locked_until")
     private LocalDateTime lockedUntil;
 
+    @Convert(converter = ComplianceLevelConverter.class)
     @Column(name = "compliance_level")
-    private String complianceLevel = "BASIC";
+    private ComplianceLevel complianceLevel = ComplianceLevel.BASIC;
 
     @Column(name = "audit_required")
     private boolean auditRequired = false;
@@ -96,12 +117,32 @@ public class SecurityContext {
 
 
     public boolean hasPermission(String permission) {
-        return permissions != null && permissions.contains(permission);
+        return NameRegistry.PERMISSIONS.contains(permissionMask, permission);
+    }
+
+    public boolean hasRole(String role) {
+        return NameRegistry.ROLES.contains(roleMask, role);
+    }
+
+    public List<String> getPermissions() {
+        return NameRegistry.PERMISSIONS.names(permissionMask);
+    }
+
+    public void setPermissions(Collection<String> permissions) {
+        this.permissionMask = NameRegistry.PERMISSIONS.set(permissions);
+    }
+
+    public List<String> getRoles() {
+        return NameRegistry.ROLES.names(roleMask);
+    }
+
+    public void setRoles(Collection<String> roles) {
+        this.roleMask = NameRegistry.ROLES.set(roles);
     }
 
 
     public boolean canAccessSensitiveData() {
-        return "ADMIN".equals(securityLevel) || "MANAGER".equals(securityLevel);
+        return securityLevel != null && securityLevel.atLeast(SecurityLevel.MANAGER);
     }
 
 
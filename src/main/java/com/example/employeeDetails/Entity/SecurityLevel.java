@@ -0,0 +1,37 @@
+package com.example.employeeDetails.Entity;
+
+// Ordered from least to most privileged, so access checks are ordinal comparisons
+public enum SecurityLevel
+{
+    BASIC,
+    MANAGER,
+    ADMIN;
+
+    public boolean atLeast(SecurityLevel required)
+    {
+        return required == null || ordinal() >= required.ordinal();
+    }
+
+    public boolean isSensitive()
+    {
+        return this != BASIC;
+    }
+
+    // Case-insensitive lookup; null when the code is not a known level. JSON binding stays strict by default,
+    // lenient mappings decide their own fallback (see LegacyPolicySecurityLevelDeserializer)
+    public static SecurityLevel fromCode(String code)
+    {
+        if (code == null)
+        {
+            return null;
+        }
+        for (SecurityLevel level : values())
+        {
+            if (level.name().equalsIgnoreCase(code))
+            {
+                return level;
+            }
+        }
+        return null;
+    }
+}
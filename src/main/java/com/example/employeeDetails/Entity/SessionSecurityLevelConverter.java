@@ -0,0 +1,14 @@
+package com.example.employeeDetails.Entity;
+
+import jakarta.persistence.Converter;
+
+// Security level granted to a session: an unknown level grants the least access
+@Converter
+public class SessionSecurityLevelConverter extends LenientEnumConverter<SecurityLevel>
+{
+
+    public SessionSecurityLevelConverter()
+    {
+        super(SecurityLevel.class, SecurityLevel.BASIC);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.employeeDetails.Hierarchy;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Immutable reporting-line graph over int node ids. Employee ids are held once in a sorted array (the node id
+// is the position), each node's manager in parent[], and direct reports in compressed sparse row form:
+// the reports of node i are children[childStart[i] .. childStart[i + 1]), in employee id order.
+public final class OrgIndex
+{
+
+    public static final int NONE = -1;
+
+    private final String[] ids;
+    private final int[] parent;
+    private final int[] childStart;
+    private final int[] children;
+
+    private OrgIndex(String[] ids, int[] parent, int[] childStart, int[] children)
+    {
+        this.ids = ids;
+        this.parent = parent;
+        this.childStart = childStart;
+        this.children = children;
+    }
+
+    public static OrgIndex build(List<ReportingLine> lines)
+    {
+        int n = lines.size();
+        String[] ids = new String[n];
+        for (int i = 0; i < n; i++)
+        {
+            ids[i] = lines.get(i).employeeId();
+        }
+        Arrays.sort(ids);
+
+        int[] parent = new int[n];
+        int[] childStart = new int[n + 1];
+        for (ReportingLine line : lines)
+        {
+            int node = Arrays.binarySearch(ids, line.employeeId());
+            int manager = line.managerId() == null ? NONE : Arrays.binarySearch(ids, line.managerId());
+            // Unknown managers and self-references make the employee a root
+            parent[node] = manager < 0 || manager == node ? NONE : manager;
+            if (parent[node] != NONE)
+            {
+                childStart[parent[node] + 1]++;
+            }
+        }
+        for (int i = 0; i < n; i++)
+        {
+            childStart[i + 1] += childStart[i];
+        }
+
+        int[] children = new int[childStart[n]];
+        int[] next = Arrays.copyOf(childStart, n);
+        for (int node = 0; node < n; node++)
+        {
+            if (parent[node] != NONE)
+            {
+                children[next[parent[node]]++] = node;
+            }
+        }
+        return new OrgIndex(ids, parent, childStart, children);
+    }
+
+    public int size()
+    {
+        return ids.length;
+    }
+
+    public int nodeOf(String employeeId)
+    {
+        int node = employeeId == null ? NONE : Arrays.binarySearch(ids, employeeId);
+        return node < 0 ? NONE : node;
+    }
+
+    public String employeeId(int node)
+    {
+        return ids[node];
+    }
+
+    public int parent(int node)
+    {
+        return parent[node];
+    }
+
+    public int firstChild(int node)
+    {
+        return childStart[node];
+    }
+
+    public int endChild(int node)
+    {
+        return childStart[node + 1];
+    }
+
+    public int child(int position)
+    {
+        return children[position];
+    }
+}
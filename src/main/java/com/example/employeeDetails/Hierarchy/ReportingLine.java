@@ -0,0 +1,6 @@
+package com.example.employeeDetails.Hierarchy;
+
+// One employee and the manager they report to (null for the top of the organisation)
+public record ReportingLine(String employeeId, String managerId)
+{
+}
@@ -0,0 +1,122 @@
+package com.example.employeeDetails.Metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-key hit counter built on striped LongAdders: after a key's first hit, increments allocate nothing and
+// concurrent hits on a hot key do not contend on one cell. Counts accumulate over a window that reset() starts
+// afresh; the window's heaviest keys are published as the <name>.top gauge.
+public class HotKeyCounter
+{
+
+    private final String name;
+    private final String keyTag;
+    private final int topK;
+    private final MeterRegistry meterRegistry;
+    private final boolean meterPerKey;
+
+    private final ConcurrentHashMap<String, Slot> slots = new ConcurrentHashMap<>();
+    private final LongAdder total = new LongAdder();
+    private final MultiGauge topKeys;
+
+    // meterPerKey also registers a cumulative <name>{keyTag=key} counter; use it only for low-cardinality keys
+    public HotKeyCounter(String name, String keyTag, int topK, boolean meterPerKey, MeterRegistry meterRegistry)
+    {
+        this.name = name;
+        this.keyTag = keyTag;
+        this.topK = topK;
+        this.meterPerKey = meterPerKey;
+        this.meterRegistry = meterRegistry;
+
+        FunctionCounter.builder(name + ".total", total, LongAdder::sum).register(meterRegistry);
+        this.topKeys = MultiGauge.builder(name + ".top").register(meterRegistry);
+    }
+
+    public void increment(String key)
+    {
+        Slot slot = slots.get(key);
+        if (slot == null)
+        {
+            slot = slots.computeIfAbsent(key, this::newSlot);
+        }
+        slot.window.increment();
+        if (slot.meter != null)
+        {
+            slot.meter.increment();
+        }
+        total.increment();
+    }
+
+    public long count(String key)
+    {
+        Slot slot = slots.get(key);
+        return slot == null ? 0 : slot.window.sum();
+    }
+
+    // Heaviest keys of the current window, highest first; a bounded heap keeps this O(n log k)
+    public List<Map.Entry<String, Long>> top()
+    {
+        PriorityQueue<Map.Entry<String, Long>> heap = new PriorityQueue<>(topK + 1, Map.Entry.comparingByValue());
+        for (Map.Entry<String, Slot> entry : slots.entrySet())
+        {
+            long count = entry.getValue().window.sum();
+            if (heap.size() < topK)
+            {
+                heap.add(Map.entry(entry.getKey(), count));
+            }
+            else if (count > heap.peek().getValue())
+            {
+                heap.poll();
+                heap.add(Map.entry(entry.getKey(), count));
+            }
+        }
+        List<Map.Entry<String, Long>> result = new ArrayList<>(heap);
+        result.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+        return result;
+    }
+
+    public void publishTop()
+    {
+        List<MultiGauge.Row<?>> rows = new ArrayList<>(topK);
+        for (Map.Entry<String, Long> entry : top())
+        {
+            rows.add(MultiGauge.Row.of(Tags.of(keyTag, entry.getKey()), entry.getValue()));
+        }
+        topKeys.register(rows, true);
+    }
+
+    // Starts a new window; cumulative meters are unaffected
+    public void reset()
+    {
+        slots.clear();
+    }
+
+    private Slot newSlot(String key)
+    {
+        Counter meter = meterPerKey ? Counter.builder(name).tag(keyTag, key).register(meterRegistry) : null;
+        return new Slot(meter);
+    }
+
+    private static final class Slot
+    {
+
+        final LongAdder window = new LongAdder();
+        final Counter meter;
+
+        Slot(Counter meter)
+        {
+            this.meter = meter;
+        }
+    }
+}
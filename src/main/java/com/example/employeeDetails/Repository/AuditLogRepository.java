@@ -1,17 +1,66 @@
 package com.example.employeeDetails.Repository;
 
 import com.example.employeeDetails.Entity.AuditLog;
+import com.example.employeeDetails.dto.AuditEventView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface AuditLogRepository extends JpaRepository<AuditLog, Long>
 {
 
+    String AUDIT_EVENT_VIEW = "new com.example.employeeDetails.dto.AuditEventView(a.id, a.employeeId, a.action, a.details, a.timestamp, " +
+            "a.userId, a.sourceEJB, a.securityLevel, a.complianceRequired, a.auditLevel, a.archived)";
+
     List<AuditLog> findByEmployeeIdOrderByTimestampDesc(String employeeId);
 
     List<AuditLog> findByAction(String action);
 
     List<AuditLog> findByTimestampBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    // History pages, newest first, seeking past the last (timestamp, id) returned; each page is an index range scan.
+    // Only the AuditEventView columns are selected, which the history indexes carry, so no row is looked up.
+    @Query("SELECT " + AUDIT_EVENT_VIEW + " FROM AuditLog a WHERE a.employeeId = :employeeId AND a.timestamp >= :from AND a.timestamp < :to " +
+            "AND (a.timestamp < :beforeTimestamp OR (a.timestamp = :beforeTimestamp AND a.id < :beforeId)) ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditEventView> findPageByEmployeeId(@Param("employeeId") String employeeId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                        @Param("beforeTimestamp") LocalDateTime beforeTimestamp, @Param("beforeId") long beforeId, Limit limit);
+
+    @Query("SELECT " + AUDIT_EVENT_VIEW + " FROM AuditLog a WHERE a.action = :action AND a.timestamp >= :from AND a.timestamp < :to " +
+            "AND (a.timestamp < :beforeTimestamp OR (a.timestamp = :beforeTimestamp AND a.id < :beforeId)) ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditEventView> findPageByAction(@Param("action") String action, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                    @Param("beforeTimestamp") LocalDateTime beforeTimestamp, @Param("beforeId") long beforeId, Limit limit);
+
+    @Query("SELECT " + AUDIT_EVENT_VIEW + " FROM AuditLog a WHERE a.timestamp >= :from AND a.timestamp < :to " +
+            "AND (a.timestamp < :beforeTimestamp OR (a.timestamp = :beforeTimestamp AND a.id < :beforeId)) ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditEventView> findPageByTimestamp(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                       @Param("beforeTimestamp") LocalDateTime beforeTimestamp, @Param("beforeId") long beforeId, Limit limit);
+
+    // Next batch of rows past their retention, in (timestamp, id) order after the given position. The timestamp
+    // bound is sargable and limits the scan to cold partitions; the per-row retention is a residual filter.
+    @Query(value = "SELECT TOP (:limit) * FROM audit_logs " +
+            "WHERE archived = 0 AND timestamp < :coldBefore " +
+            "AND DATEADD(day, COALESCE(retention_days, :defaultRetentionDays), timestamp) < :now " +
+            "AND (timestamp > :afterTimestamp OR (timestamp = :afterTimestamp AND id > :afterId)) " +
+            "ORDER BY timestamp, id", nativeQuery = true)
+    List<AuditLog> findExpiredAfter(@Param("coldBefore") LocalDateTime coldBefore, @Param("now") LocalDateTime now,
+                                    @Param("defaultRetentionDays") int defaultRetentionDays,
+                                    @Param("afterTimestamp") LocalDateTime afterTimestamp, @Param("afterId") long afterId,
+                                    @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE AuditLog a SET a.archived = true, a.archiveDate = :archivedAt WHERE a.id IN :ids")
+    int markArchived(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE TOP (:limit) FROM audit_logs WHERE archived = 1 AND archive_date < :archivedBefore", nativeQuery = true)
+    int purgeArchived(@Param("archivedBefore") LocalDateTime archivedBefore, @Param("limit") int limit);
 }
@@ -1,10 +1,21 @@
 package com.example.employeeDetails.Repository;
 
 import com.example.employeeDetails.Entity.Employee;
+import com.example.employeeDetails.Entity.EmployeeStatus;
+import com.example.employeeDetails.Hierarchy.ReportingLine;
+import com.example.employeeDetails.dto.EmployeeSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, String>
@@ -12,7 +23,33 @@ public interface EmployeeRepository extends JpaRepository<Employee, String>
 
     List<Employee> findByDepartment(String department);
 
-    List<Employee> findByStatus(String status);
+    List<Employee> findByStatus(EmployeeStatus status);
 
     List<Employee> findByManagerId(String managerId);
+
+    @Query("SELECT new com.example.employeeDetails.dto.EmployeeSummary(e.employeeID, e.name, e.department, e.email, e.phone, e.managerId, e.status, e.securityLevel) FROM Employee e WHERE e.employeeID = :employeeId")
+    Optional<EmployeeSummary> findSummaryById(@Param("employeeId") String employeeId);
+
+    @Query("SELECT new com.example.employeeDetails.dto.EmployeeSummary(e.employeeID, e.name, e.department, e.email, e.phone, e.managerId, e.status, e.securityLevel) FROM Employee e WHERE e.employeeID IN :employeeIds")
+    List<EmployeeSummary> findSummariesByIds(@Param("employeeIds") Collection<String> employeeIds);
+
+    // Keyset pages seeking on employeeID; each page is a short forward-only read of unmanaged rows
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.example.employeeDetails.dto.EmployeeSummary(e.employeeID, e.name, e.department, e.email, e.phone, e.managerId, e.status, e.securityLevel) FROM Employee e WHERE e.department = :department AND e.employeeID > :afterId ORDER BY e.employeeID")
+    List<EmployeeSummary> findSummariesByDepartmentAfter(@Param("department") String department, @Param("afterId") String afterId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.example.employeeDetails.dto.EmployeeSummary(e.employeeID, e.name, e.department, e.email, e.phone, e.managerId, e.status, e.securityLevel) FROM Employee e WHERE e.status = :status AND e.employeeID > :afterId ORDER BY e.employeeID")
+    List<EmployeeSummary> findSummariesByStatusAfter(@Param("status") EmployeeStatus status, @Param("afterId") String afterId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.example.employeeDetails.dto.EmployeeSummary(e.employeeID, e.name, e.department, e.email, e.phone, e.managerId, e.status, e.securityLevel) FROM Employee e WHERE e.managerId = :managerId AND e.employeeID > :afterId ORDER BY e.employeeID")
+    List<EmployeeSummary> findSummariesByManagerIdAfter(@Param("managerId") String managerId, @Param("afterId") String afterId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "2000"))
+    @Query("SELECT new com.example.employeeDetails.Hierarchy.ReportingLine(e.employeeID, e.managerId) FROM Employee e WHERE e.employeeID > :afterId ORDER BY e.employeeID")
+    List<ReportingLine> findReportingLinesAfter(@Param("afterId") String afterId, Limit limit);
+
+    @Query("SELECT p FROM Employee e JOIN e.permissions p WHERE e.employeeID = :employeeId")
+    List<String> findPermissionsByEmployeeId(@Param("employeeId") String employeeId);
 }
@@ -1,6 +1,9 @@
 package com.example.employeeDetails.Repository;
 
+import com.example.employeeDetails.Entity.ComplianceLevel;
 import com.example.employeeDetails.Entity.SecurityContext;
+import com.example.employeeDetails.Entity.SecurityLevel;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,13 +26,13 @@ public interface SecurityContextRepository extends JpaRepository<SecurityContext
 
     List<SecurityContext> findByActiveTrue();
 
-    List<SecurityContext> findBySecurityLevel(String securityLevel);
+    List<SecurityContext> findBySecurityLevel(SecurityLevel securityLevel);
 
     List<SecurityContext> findByAuditRequiredTrue();
 
     List<SecurityContext> findBySourceEJB(String sourceEJB);
 
-    List<SecurityContext> findByComplianceLevel(String complianceLevel);
+    List<SecurityContext> findByComplianceLevel(ComplianceLevel complianceLevel);
 
     List<SecurityContext> findByTransactionId(String transactionId);
 
@@ -45,6 +49,11 @@ public interface SecurityContextRepository extends JpaRepository<SecurityContext
     @Query("UPDATE SecurityContext s SET s.lastAccessed = :lastAccessed WHERE s.sessionId = :sessionId")
     void updateLastAccessed(@Param("sessionId") String sessionId, @Param("lastAccessed") LocalDateTime lastAccessed);
 
+    @Modifying
+    @Transactional
+    @Query("UPDATE SecurityContext s SET s.lastAccessed = :lastAccessed WHERE s.sessionId IN :sessionIds AND (s.lastAccessed IS NULL OR s.lastAccessed < :lastAccessed)")
+    int updateLastAccessed(@Param("sessionIds") Collection<String> sessionIds, @Param("lastAccessed") LocalDateTime lastAccessed);
+
     @Modifying
     @Transactional
     @Query("UPDATE SecurityContext s SET s.lockedUntil = :lockUntil WHERE s.sessionId = :sessionId")
@@ -54,4 +63,45 @@ public interface SecurityContextRepository extends JpaRepository<SecurityContext
     @Transactional
     @Query("UPDATE SecurityContext s SET s.lockedUntil = NULL, s.failedAttempts = 0 WHERE s.sessionId = :sessionId")
     void unlockSession(@Param("sessionId") String sessionId);
-}
\ No newline at end of file
+
+    @Query("SELECT s.id FROM SecurityContext s WHERE s.userId = :userId AND s.lastAccessed < :cutoff ORDER BY s.id")
+    List<Long> findIdsByUserIdIdleSince(@Param("userId") String userId, @Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM security_attributes WHERE security_context_id IN :ids", nativeQuery = true)
+    int deleteAttributesByContextIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM SecurityContext s WHERE s.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // Reaper phases select the session ids first, so the same sessions can be evicted from memory after the update
+    @Query("SELECT s.sessionId FROM SecurityContext s WHERE s.active = true AND s.expiryDate < :now")
+    List<String> findActiveSessionIdsExpiredBefore(@Param("now") LocalDateTime now, Limit limit);
+
+    @Query("SELECT s.sessionId FROM SecurityContext s WHERE s.active = true AND s.lastAccessed < :cutoff")
+    List<String> findActiveSessionIdsIdleSince(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Query("SELECT s.sessionId FROM SecurityContext s WHERE s.active = true AND s.failedAttempts > :maxFailedAttempts")
+    List<String> findActiveSessionIdsFailedAttemptsAbove(@Param("maxFailedAttempts") int maxFailedAttempts, Limit limit);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE SecurityContext s SET s.active = false WHERE s.active = true AND s.sessionId IN :sessionIds")
+    int deactivateBySessionIds(@Param("sessionIds") Collection<String> sessionIds);
+
+    // Idle expiry: every session in the statement was last accessed in the same second; last_accessed never moves back
+    @Modifying
+    @Transactional
+    @Query("UPDATE SecurityContext s SET s.active = false, s.lastAccessed = CASE WHEN s.lastAccessed IS NULL OR s.lastAccessed < :lastAccessed THEN :lastAccessed ELSE s.lastAccessed END " +
+            "WHERE s.active = true AND s.sessionId IN :sessionIds")
+    int deactivateIdleBySessionIds(@Param("sessionIds") Collection<String> sessionIds, @Param("lastAccessed") LocalDateTime lastAccessed);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE TOP (:limit) security_contexts SET active = 0 WHERE active = 1 AND user_id IN :userIds", nativeQuery = true)
+    int deactivateByUserIds(@Param("userIds") Collection<String> userIds, @Param("limit") int limit);
+
+    @Query("SELECT s.id FROM SecurityContext s WHERE s.active = false AND s.lastAccessed < :cutoff ORDER BY s.id")
+    List<Long> findInactiveIdsIdleSince(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+}
@@ -0,0 +1,34 @@
+package com.example.employeeDetails.Security;
+
+import jakarta.persistence.AttributeConverter;
+
+import java.util.Arrays;
+
+// Stores a name set as a comma-separated list of names, so the column stays stable across restarts
+// while the entity holds bits
+abstract class NameMaskConverter implements AttributeConverter<NameSet, String>
+{
+
+    private final NameRegistry registry;
+
+    NameMaskConverter(NameRegistry registry)
+    {
+        this.registry = registry;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(NameSet set)
+    {
+        return set == null || set.isEmpty() ? "" : String.join(",", registry.names(set));
+    }
+
+    @Override
+    public NameSet convertToEntityAttribute(String names)
+    {
+        if (names == null || names.isEmpty())
+        {
+            return NameSet.EMPTY;
+        }
+        return registry.set(Arrays.asList(names.split(",")));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.employeeDetails.Security;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Interns permission or role names into bit positions, so a set of names is a NameSet and a membership check
+// is one bit test. Bits are process-local; the database stores the names. There is no limit on the number of
+// distinct names: the first 64 fit a single word, and sets holding later names just carry more words.
+public final class NameRegistry
+{
+
+    public static final NameRegistry PERMISSIONS = new NameRegistry("READ", "WRITE", "DELETE", "ADMIN");
+    public static final NameRegistry ROLES = new NameRegistry("USER", "MANAGER", "ADMIN");
+
+    private final ConcurrentHashMap<String, Integer> indexes = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[Long.SIZE];
+
+    private NameRegistry(String... knownNames)
+    {
+        for (String name : knownNames)
+        {
+            index(name);
+        }
+    }
+
+    // Returns the bit index of a name, registering it on first use
+    public int index(String name)
+    {
+        Integer index = indexes.get(name);
+        return index != null ? index : register(name);
+    }
+
+    // Returns the bit index of an already registered name, or -1 when nobody holds it
+    public int indexIfKnown(String name)
+    {
+        Integer index = name == null ? null : indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    public boolean contains(NameSet set, String name)
+    {
+        int index = indexIfKnown(name);
+        return index >= 0 && set != null && set.contains(index);
+    }
+
+    public NameSet set(Collection<String> names)
+    {
+        if (names == null || names.isEmpty())
+        {
+            return NameSet.EMPTY;
+        }
+        BitSet bits = new BitSet();
+        for (String name : names)
+        {
+            bits.set(index(name));
+        }
+        return NameSet.of(bits);
+    }
+
+    public List<String> names(NameSet set)
+    {
+        if (set == null || set.isEmpty())
+        {
+            return new ArrayList<>(0);
+        }
+        String[] known = names;
+        List<String> result = new ArrayList<>(set.size());
+        set.toBitSet().stream().forEach(index -> result.add(known[index]));
+        return result;
+    }
+
+    public int size()
+    {
+        return indexes.size();
+    }
+
+    private synchronized int register(String name)
+    {
+        Integer existing = indexes.get(name);
+        if (existing != null)
+        {
+            return existing;
+        }
+        int index = indexes.size();
+        String[] current = names;
+        if (index >= current.length)
+        {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        // Publish the name before the index so a reader that sees the bit can always decode it
+        current[index] = name;
+        names = current;
+        indexes.put(name, index);
+        return index;
+    }
+}
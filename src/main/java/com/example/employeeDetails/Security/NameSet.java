@@ -0,0 +1,66 @@
+package com.example.employeeDetails.Security;
+
+import org.hibernate.annotations.Immutable;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+// Immutable set of interned names, as bits indexed by NameRegistry. Up to 64 registered names fit in one word,
+// so membership is a single bit test; further names simply add words instead of hitting a limit.
+@Immutable
+public final class NameSet
+{
+
+    public static final NameSet EMPTY = new NameSet(new long[0]);
+
+    // Little-endian words as produced by BitSet.toLongArray: no trailing zero words
+    private final long[] words;
+
+    private NameSet(long[] words)
+    {
+        this.words = words;
+    }
+
+    static NameSet of(BitSet bits)
+    {
+        return bits.isEmpty() ? EMPTY : new NameSet(bits.toLongArray());
+    }
+
+    boolean contains(int index)
+    {
+        int word = index >>> 6;
+        return word < words.length && (words[word] & (1L << index)) != 0L;
+    }
+
+    BitSet toBitSet()
+    {
+        return BitSet.valueOf(words);
+    }
+
+    public boolean isEmpty()
+    {
+        return words.length == 0;
+    }
+
+    public int size()
+    {
+        int size = 0;
+        for (long word : words)
+        {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        return other instanceof NameSet set && Arrays.equals(words, set.words);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(words);
+    }
+}
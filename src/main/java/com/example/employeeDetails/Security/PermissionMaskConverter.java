@@ -0,0 +1,13 @@
+package com.example.employeeDetails.Security;
+
+import jakarta.persistence.Converter;
+
+@Converter
+public class PermissionMaskConverter extends NameMaskConverter
+{
+
+    public PermissionMaskConverter()
+    {
+        super(NameRegistry.PERMISSIONS);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.employeeDetails.Security;
+
+import jakarta.persistence.Converter;
+
+@Converter
+public class RoleMaskConverter extends NameMaskConverter
+{
+
+    public RoleMaskConverter()
+    {
+        super(NameRegistry.ROLES);
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.employeeDetails.Service;
+
+import com.example.employeeDetails.Audit.AuditArchiver;
+import com.example.employeeDetails.Entity.SecurityContext;
+import com.example.employeeDetails.Entity.SecurityLevel;
+import com.example.employeeDetails.Repository.AuditLogRepository;
+import com.example.employeeDetails.dto.AuditEventView;
+import com.example.employeeDetails.dto.AuditPage;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Audit history reads. Pages seek past the last (timestamp, id) returned instead of using OFFSET, so a page
+// deep in the history costs the same as the first one. The cursor is opaque to clients.
+@Service
+public class AuditQueryService
+{
+
+    private static final LocalDateTime MIN_TIMESTAMP = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIMESTAMP = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final AuditLogRepository auditLogRepository;
+    private final SecurityService securityService;
+    private final AuditService auditService;
+    private final ObjectProvider<AuditArchiver> auditArchiver;
+    private final int maxPageSize;
+    private final int exportPageSize;
+
+    public AuditQueryService(AuditLogRepository auditLogRepository, SecurityService securityService, AuditService auditService, ObjectProvider<AuditArchiver> auditArchiver,
+                             @Value("${audit.query.max-page-size:500}") int maxPageSize,
+                             @Value("${audit.query.export-page-size:1000}") int exportPageSize)
+    {
+        this.auditLogRepository = auditLogRepository;
+        this.securityService = securityService;
+        this.auditService = auditService;
+        this.auditArchiver = auditArchiver;
+        this.maxPageSize = maxPageSize;
+        this.exportPageSize = exportPageSize;
+    }
+
+    // At most one of employeeId and action may be set; neither means every event in the time range
+    public record AuditFilter(String employeeId, String action, LocalDateTime from, LocalDateTime to)
+    {
+        public AuditFilter
+        {
+            if (employeeId != null && action != null)
+            {
+                throw new IllegalArgumentException("Filter by employee or by action, not both");
+            }
+            from = from != null ? from : MIN_TIMESTAMP;
+            to = to != null ? to : MAX_TIMESTAMP;
+        }
+    }
+
+    // Audit history is sensitive data: only MANAGER and ADMIN sessions may read it
+    public boolean canReadHistory(String sessionId)
+    {
+        SecurityContext context = securityService.validateAndGetContext(sessionId, "READ");
+        return context != null && context.canAccessSensitiveData();
+    }
+
+    public AuditPage page(AuditFilter filter, String cursor, int size, String sessionId)
+    {
+        SecurityContext context = authorize(filter, sessionId);
+        int limit = Math.max(1, Math.min(size, maxPageSize));
+
+        Position after = cursor == null || cursor.isEmpty() ? Position.START : Position.decode(cursor);
+        List<AuditEventView> items = fetch(filter, after, limit);
+        String nextCursor = items.size() < limit ? null : Position.of(items.get(items.size() - 1)).encode();
+
+        auditService.logAuditEvent(context.getUserId(), "AUDIT_HISTORY_READ", "Read " + items.size() + " audit events for " + describe(filter), "AuditQueryService", sessionId);
+        return new AuditPage(items, nextCursor);
+    }
+
+    // Whole-history export, page by page, so memory stays at one page however many events match
+    public void export(AuditFilter filter, String sessionId, Consumer<? super AuditEventView> sink)
+    {
+        SecurityContext context = authorize(filter, sessionId);
+
+        Position after = Position.START;
+        long exported = 0;
+        while (true)
+        {
+            List<AuditEventView> items = fetch(filter, after, exportPageSize);
+            items.forEach(sink);
+            exported += items.size();
+            if (items.size() < exportPageSize)
+            {
+                break;
+            }
+            after = Position.of(items.get(items.size() - 1));
+        }
+
+        auditService.logAuditEvent(context.getUserId(), "AUDIT_HISTORY_EXPORT", "Exported " + exported + " audit events for " + describe(filter), "AuditQueryService", sessionId);
+    }
+
+    // Restoring writes to audit_logs, so it takes a WRITE session at ADMIN level; returns the number of events put back
+    public int restoreArchive(String month, String fileName, String sessionId) throws IOException
+    {
+        SecurityContext context = securityService.validateAndGetContext(sessionId, "WRITE");
+        if (context == null || context.getSecurityLevel() != SecurityLevel.ADMIN)
+        {
+            auditService.logAuditEvent(context != null ? context.getUserId() : "SYSTEM", "UNAUTHORIZED_ACCESS", "Attempted to restore audit archive " + month + "/" + fileName, "AuditQueryService", sessionId);
+            throw new SecurityException("Unauthorized audit archive restore");
+        }
+        AuditArchiver archiver = auditArchiver.getIfAvailable();
+        if (archiver == null)
+        {
+            throw new IllegalStateException("Audit archiving is disabled");
+        }
+        int restored = archiver.restore(month, fileName);
+        auditService.logAuditEvent(context.getUserId(), "AUDIT_ARCHIVE_RESTORE", "Restored " + restored + " audit events from " + month + "/" + fileName, "AuditQueryService", sessionId);
+        return restored;
+    }
+
+    private SecurityContext authorize(AuditFilter filter, String sessionId)
+    {
+        SecurityContext context = securityService.validateAndGetContext(sessionId, "READ");
+        if (context == null || !context.canAccessSensitiveData())
+        {
+            auditService.logAuditEvent(context != null ? context.getUserId() : "SYSTEM", "UNAUTHORIZED_ACCESS", "Attempted to read audit history for " + describe(filter), "AuditQueryService", sessionId);
+            throw new SecurityException("Unauthorized access to audit history");
+        }
+        return context;
+    }
+
+    private List<AuditEventView> fetch(AuditFilter filter, Position after, int limit)
+    {
+        if (filter.employeeId() != null)
+        {
+            return auditLogRepository.findPageByEmployeeId(filter.employeeId(), filter.from(), filter.to(), after.timestamp(), after.id(), Limit.of(limit));
+        }
+        if (filter.action() != null)
+        {
+            return auditLogRepository.findPageByAction(filter.action(), filter.from(), filter.to(), after.timestamp(), after.id(), Limit.of(limit));
+        }
+        return auditLogRepository.findPageByTimestamp(filter.from(), filter.to(), after.timestamp(), after.id(), Limit.of(limit));
+    }
+
+    private static String describe(AuditFilter filter)
+    {
+        String subject = filter.employeeId() != null ? "employee " + filter.employeeId() : filter.action() != null ? "action " + filter.action() : "all events";
+        return subject + " between " + filter.from() + " and " + filter.to();
+    }
+
+    // Last (timestamp, id) seen; encoded as base64url of "epochSecond.nano.id"
+    record Position(LocalDateTime timestamp, long id)
+    {
+        static final Position START = new Position(MAX_TIMESTAMP, Long.MAX_VALUE);
+
+        static Position of(AuditEventView event)
+        {
+            return new Position(event.getTimestamp(), event.getId());
+        }
+
+        String encode()
+        {
+            String raw = timestamp.toEpochSecond(ZoneOffset.UTC) + "." + timestamp.getNano() + "." + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        static Position decode(String cursor)
+        {
+            try
+            {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII).split("\\.", -1);
+                if (parts.length != 3)
+                {
+                    throw new IllegalArgumentException("Expected 3 cursor fields, got " + parts.length);
+                }
+                LocalDateTime timestamp = LocalDateTime.ofEpochSecond(Long.parseLong(parts[0]), Integer.parseInt(parts[1]), ZoneOffset.UTC);
+                return new Position(timestamp, Long.parseLong(parts[2]));
+            }
+            catch (RuntimeException e)
+            {
+                throw new IllegalArgumentException("Invalid audit cursor", e);
+            }
+        }
+    }
+}
@@ -1,59 +1,48 @@
 package com.example.employeeDetails.Service;
 
+import com.example.employeeDetails.Audit.AuditBatchWriter;
+import com.example.employeeDetails.Audit.AuditJournal;
+import com.example.employeeDetails.Audit.AuditRollups;
 import com.example.employeeDetails.Entity.AuditLog;
-import com.example.employeeDetails.Repository.AuditLogRepository;
-import org.springframework.beans.factory.annotation.Value;
+import com.example.employeeDetails.Metrics.HotKeyCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 
 @Service
 public class AuditService
 {
 
-    private final AuditLogRepository auditLogRepository;
+    private static final Logger log = LoggerFactory.getLogger(AuditService.class);
 
-    private final ConcurrentHashMap<String, AuditLog> pendingAudits = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, Integer> auditCounters = new ConcurrentHashMap<>();
+    private final AuditBatchWriter auditBatchWriter;
+    private final AuditJournal auditJournal;
+    private final AuditRollups auditRollups;
 
+    // Actions are a small fixed set, so each also gets its own cumulative audit.events{action} counter
+    private final HotKeyCounter auditCounters;
 
-    public AuditService(AuditLogRepository auditLogRepository)
+
+    public AuditService(AuditBatchWriter auditBatchWriter, Optional<AuditJournal> auditJournal, AuditRollups auditRollups, MeterRegistry meterRegistry)
     {
-        this.auditLogRepository = auditLogRepository;
+        this.auditBatchWriter = auditBatchWriter;
+        this.auditJournal = auditJournal.orElse(null);
+        this.auditRollups = auditRollups;
+        this.auditCounters = new HotKeyCounter("audit.events", "action", 20, true, meterRegistry);
     }
 
-    @Scheduled(fixedRate = 3600000) // 1 hour
-    public void processPendingAudits()
+    public void logAuditEvent(String employeeId, String action, String details, String source, String transactionId)
     {
-        try
-        {
-            if (pendingAudits.isEmpty())
-            {
-                return;
-            }
-            // Process up to 100 pending audits
-            int processed = 0;
-            for (AuditLog auditLog : pendingAudits.values())
-            {
-                if (processed >= 100)
-                    break;
-                auditLogRepository.save(auditLog);  // Saving to DB
-                processed++;
-            }
-            // Clear processed audits
-            pendingAudits.clear();
-        }
-        catch (Exception e)
-        {
-            // Log error silently for audit processing
-        }
+        logAuditEvent(employeeId, action, details, source, transactionId, null);
     }
 
-    public void logAuditEvent(String employeeId, String action, String details, String source, String transactionId)
+    // The department, when the caller knows it, only feeds the per-department rollups; it is not stored on the event
+    public void logAuditEvent(String employeeId, String action, String details, String source, String transactionId, String department)
     {
         try
         {
@@ -64,21 +53,13 @@ public class AuditService
             auditLog.setTimestamp(LocalDateTime.now());
             auditLog.setSourceEJB(source);
             auditLog.setTransactionId(transactionId);
+            auditLog.setComplianceRequired(isHighPriorityAudit(action));
 
-            // Check if this is a high priority audit
-            if (isHighPriorityAudit(action))
-            {
-                processAuditImmediately(auditLog);
-            }
-            else
-            {
-                // Add to pending audits
-                String auditKey = UUID.randomUUID().toString();
-                pendingAudits.put(auditKey, auditLog);
-            }
+            record(auditLog);
 
-            // Increment audit counter
-            auditCounters.merge(action, 1, Integer::sum);
+            // Increment audit counter and the dashboard rollups
+            auditCounters.increment(action);
+            auditRollups.record(action, employeeId, department, auditLog.getTimestamp());
         }
         catch (Exception e)
         {
@@ -87,26 +68,49 @@ public class AuditService
     }
 
 
-    public void clearAuditCounters()
+    private void record(AuditLog auditLog)
+    {
+        if (auditJournal != null)
+        {
+            long position = -1;
+            try
+            {
+                position = auditJournal.append(auditLog);
+            }
+            catch (RuntimeException e)
+            {
+                // Journal unusable (closed, disk full): fall back to the in-memory pipeline below
+            }
+            if (position >= 0)
+            {
+                // Journaled events reach the database through the replayer; compliance events wait for the disk commit.
+                // A timed-out wait must not fall back: the record is already journaled and would be written twice.
+                if (auditLog.isComplianceRequired() && !auditJournal.awaitDurable(position))
+                {
+                    log.warn("Audit journal commit not confirmed in time for {} event; it will be written on replay", auditLog.getAction());
+                }
+                return;
+            }
+        }
+        // High priority audits are flushed right away instead of waiting for a full batch
+        auditBatchWriter.enqueue(auditLog, auditLog.isComplianceRequired());
+    }
+
+    // Publish the busiest actions of the current window (scheduled to run every 30 seconds)
+    @Scheduled(fixedRate = 30_000)
+    public void publishAuditCounters()
     {
-        auditCounters.clear();
+        auditCounters.publishTop();
     }
 
-    private boolean isHighPriorityAudit(String action)
+    public void clearAuditCounters()
     {
-        return "SECURITY_VIOLATION".equals(action) || "UNAUTHORIZED_ACCESS".equals(action) || "COMPLIANCE_VIOLATION".equals(action);
+        auditCounters.reset();
     }
 
-    private void processAuditImmediately(AuditLog auditLog)
+    private boolean isHighPriorityAudit(String action)
     {
-        try
-        {
-            auditLogRepository.save(auditLog);  // Save immediately
-        }
-        catch (Exception e)
-        {
-            // Log error silently for audit processing
-        }
+        return "SECURITY_VIOLATION".equals(action) || "UNAUTHORIZED_ACCESS".equals(action) || "COMPLIANCE_VIOLATION".equals(action);
     }
 
 }
@@ -1,218 +1,472 @@
 package com.example.employeeDetails.Service;
 
+import com.example.employeeDetails.Cache.ResponseCache;
+import com.example.employeeDetails.Cache.ResponseCacheKey;
+import com.example.employeeDetails.Cache.SingleFlight;
 import com.example.employeeDetails.Entity.Employee;
+import com.example.employeeDetails.Entity.EmployeeStatus;
 import com.example.employeeDetails.Entity.HrPolicy;
 import com.example.employeeDetails.Entity.SecurityContext;
+import com.example.employeeDetails.Entity.SecurityLevel;
+import com.example.employeeDetails.Metrics.HotKeyCounter;
 import com.example.employeeDetails.Repository.EmployeeRepository;
+import com.example.employeeDetails.dto.EmployeeSummary;
 import com.example.employeeDetails.dto.EmployeeWithPoliciesDTO;
+import com.example.employeeDetails.dto.ResponseSection;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 @Service
 public class EmployeeDetailsService
 {
 
+    // SQL Server accepts at most 2100 parameters per statement
+    private static final int MAX_IDS_PER_QUERY = 2000;
+
+    // Response sections that are the same for every employee: built once and shared by all responses, so they must never be mutated
+    private static final String PROCESSING_CHAIN = "EmployeeDetailsService -> HrPolicyService -> SecurityService -> AuditService";
+    private static final List<String> BASIC_PERMISSIONS = List.of("EMPLOYEE_READ", "POLICY_READ");
+    private static final List<String> SENSITIVE_PERMISSIONS = List.of("EMPLOYEE_READ", "POLICY_READ", "EMPLOYEE_WRITE", "EMPLOYEE_DELETE");
+    private static final List<String> COMPLIANCE_CHECKS = List.of("EMPLOYEE_STATUS_CHECK", "DEPARTMENT_POLICY_CHECK", "SECURITY_LEVEL_CHECK");
+    private static final List<String> AUDIT_OPERATIONS = List.of("SECURITY_VALIDATION", "EMPLOYEE_FETCH", "POLICY_RETRIEVAL", "BUSINESS_RULE_CHECK", "AUDIT_LOGGING");
+    private static final List<String> CROSS_REFERENCE_DEPENDENCIES = List.of("HrPolicyService", "SecurityService", "AuditService", "EmployeeService");
+    private static final Map<String, String> CROSS_REFERENCE_SOURCES = Map.of(
+            "EMPLOYEE_SOURCE", "EmployeeService",
+            "POLICY_SOURCE", "HrPolicyService",
+            "SECURITY_SOURCE", "SecurityService",
+            "AUDIT_SOURCE", "AuditService");
+    private static final Map<String, Object> METADATA_CONFIGURATION = Map.of(
+            "CACHE_ENABLED", true,
+            "SECURITY_ENABLED", true,
+            "AUDIT_ENABLED", true,
+            "COMPLIANCE_CHECK_ENABLED", true);
+    private static final List<String> METADATA_TRANSFORMATIONS = List.of("SECURITY_VALIDATION", "BUSINESS_RULE_VALIDATION", "AUDIT_TRAIL_GENERATION", "CROSS_REFERENCE_POPULATION", "METADATA_ENRICHMENT");
+    private static final Map<String, Object> DYNAMIC_FIELDS = Map.of(
+            "COMPLEXITY_LEVEL", "HIGH",
+            "INTERDEPENDENCY_COUNT", 3,
+            "LAYER_COUNT", 5,
+            "PROCESSING_CHAIN", PROCESSING_CHAIN);
+
+    // Access rights only vary with (has policies, sensitive access), so all four combinations are prebuilt;
+    // indexed by (has policies ? 2 : 0) + (sensitive ? 1 : 0)
+    private static final List<Map<String, Boolean>> ACCESS_RIGHTS = List.of(accessRights(false, false), accessRights(false, true), accessRights(true, false), accessRights(true, true));
+
     private final HrPolicyService hrPolicyService;
     private final AuditService auditService;
     private final SecurityService securityService;
     private final EmployeeRepository employeeRepository;
-
-    private final ConcurrentHashMap<String, EmployeeWithPoliciesDTO> responseCache = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, Integer> accessCounters = new ConcurrentHashMap<>();
-
-    public EmployeeDetailsService(HrPolicyService hrPolicyService, AuditService auditService, SecurityService securityService, EmployeeRepository employeeRepository)
+    private final OrgHierarchyService orgHierarchyService;
+
+    private final ResponseCache responseCache;
+    private final SingleFlight<ResponseCacheKey, EmployeeWithPoliciesDTO> responseLoads;
+    private final HotKeyCounter accessCounters;
+
+    // Last known department per employee, so the policy lookup can start before the employee row arrives
+    private final Cache<String, String> departmentHints;
+    private final AsyncTaskExecutor fanOutExecutor;
+    private final long employeeLookupTimeoutMillis;
+    private final long policyLookupTimeoutMillis;
+    private final int maxBatchSize;
+
+    public EmployeeDetailsService(HrPolicyService hrPolicyService, AuditService auditService, SecurityService securityService, EmployeeRepository employeeRepository, OrgHierarchyService orgHierarchyService, ResponseCache responseCache, MeterRegistry meterRegistry,
+                                  @Qualifier("applicationTaskExecutor") AsyncTaskExecutor fanOutExecutor,
+                                  @Value("${employee.fanout.employee-timeout:2s}") Duration employeeLookupTimeout,
+                                  @Value("${employee.fanout.policy-timeout:1500ms}") Duration policyLookupTimeout,
+                                  @Value("${employee.fanout.department-hints.maximum-size:100000}") long departmentHintsSize,
+                                  @Value("${employee.metrics.hot-employees:20}") int hotEmployees,
+                                  @Value("${employee.batch.max-size:500}") int maxBatchSize)
     {
         this.hrPolicyService = hrPolicyService;
         this.auditService = auditService;
         this.securityService = securityService;
         this.employeeRepository = employeeRepository;
+        this.orgHierarchyService = orgHierarchyService;
+        this.responseCache = responseCache;
+        this.responseLoads = new SingleFlight<>("employeeResponse", meterRegistry);
+        this.fanOutExecutor = fanOutExecutor;
+        this.employeeLookupTimeoutMillis = employeeLookupTimeout.toMillis();
+        this.policyLookupTimeoutMillis = policyLookupTimeout.toMillis();
+        this.departmentHints = Caffeine.newBuilder().maximumSize(departmentHintsSize).build();
+        this.accessCounters = new HotKeyCounter("employee.access", "employeeId", hotEmployees, false, meterRegistry);
+        this.maxBatchSize = maxBatchSize;
     }
 
-    @Transactional(readOnly = true)
+    // Not @Transactional: the DB lookup runs on a fan-out thread in its own short repository transaction,
+    // so no connection is held while waiting on the legacy policy call
     public EmployeeWithPoliciesDTO getEmployeeWithPolicies(String employeeId, String sessionId)
+    {
+        return getEmployeeWithPolicies(employeeId, sessionId, ResponseSection.ALL);
+    }
+
+    // Each distinct section set is cached as its own variant of the employee
+    public EmployeeWithPoliciesDTO getEmployeeWithPolicies(String employeeId, String sessionId, Set<ResponseSection> sections)
     {
         try
         {
-            // Validate security context
-            if (!securityService.validateSession(sessionId, "READ"))
-            {
-                auditService.logAuditEvent("SYSTEM", "UNAUTHORIZED_ACCESS", "Attempted to access employee: " + employeeId, "EmployeeDetailsService", sessionId);
-                throw new SecurityException("Unauthorized access to employee details");
-            }
-
-            SecurityContext context = securityService.getSecurityContext(sessionId);
-            if (context == null)
-            {
-                throw new SecurityException("Invalid security context");
-            }
+            SecurityContext context = authorizeRead(employeeId, sessionId);
 
             // Check cache first
-            String cacheKey = employeeId + "_" + context.getSecurityLevel();
+            ResponseCacheKey cacheKey = new ResponseCacheKey(employeeId, context.getSecurityLevel(), sections);
             EmployeeWithPoliciesDTO cachedResult = responseCache.get(cacheKey);
             if (cachedResult != null)
             {
-                accessCounters.merge(employeeId, 1, Integer::sum);
+                accessCounters.increment(employeeId);
                 return cachedResult;
             }
 
-            // Get employee details
-            Optional<Employee> optionalEmployee = employeeRepository.findById(employeeId);
-            Employee employee = optionalEmployee.orElseThrow(() -> new IllegalArgumentException("Employee not found: " + employeeId));
+            // Concurrent misses on the same key share a single load
+            EmployeeWithPoliciesDTO result = responseLoads.execute(cacheKey, () -> loadEmployeeWithPolicies(employeeId, sessionId, context, cacheKey, sections));
+            accessCounters.increment(employeeId);
+            return result;
+
+        }
+        catch (Exception e)
+        {
+            throw new IllegalArgumentException("Failed to get employee with policies: " + e.getMessage(), e);
+        }
+    }
+
+    // Non-blocking variant: no request thread waits on the legacy call, and the DB connection is
+    // released as soon as the employee row is read (the repository call runs in its own transaction)
+    public Mono<EmployeeWithPoliciesDTO> getEmployeeWithPoliciesReactive(String employeeId, String sessionId)
+    {
+        return getEmployeeWithPoliciesReactive(employeeId, sessionId, ResponseSection.ALL);
+    }
+
+    public Mono<EmployeeWithPoliciesDTO> getEmployeeWithPoliciesReactive(String employeeId, String sessionId, Set<ResponseSection> sections)
+    {
+        return Mono.fromCallable(() -> authorizeRead(employeeId, sessionId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(context -> {
+                    ResponseCacheKey cacheKey = new ResponseCacheKey(employeeId, context.getSecurityLevel(), sections);
+                    EmployeeWithPoliciesDTO cachedResult = responseCache.get(cacheKey);
+                    if (cachedResult != null)
+                    {
+                        return Mono.just(cachedResult);
+                    }
+
+                    Mono<EmployeeSummary> employeeLookup = Mono.fromCallable(() -> findAccessibleEmployee(employeeId, sessionId, context))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .timeout(Duration.ofMillis(employeeLookupTimeoutMillis));
+                    if (!ResponseSection.needsPolicies(sections))
+                    {
+                        return employeeLookup.map(employee -> completeLoad(employee, null, employeeId, sessionId, context, cacheKey, sections));
+                    }
+
+                    String hintedDepartment = departmentHints.getIfPresent(employeeId);
+                    Mono<List<HrPolicy>> hintedPolicies = hintedDepartment == null ? Mono.just(Collections.emptyList()) : policyLookup(hintedDepartment, sessionId);
+
+                    return Mono.zip(employeeLookup, hintedPolicies)
+                            .flatMap(stages -> {
+                                EmployeeSummary employee = stages.getT1();
+                                Mono<List<HrPolicy>> policies = hintedDepartment != null && hintedDepartment.equals(employee.getDepartment())
+                                        ? Mono.just(stages.getT2())
+                                        : policyLookup(employee.getDepartment(), sessionId);
+                                return policies
+                                        // Policy responses arrive on the HTTP client's event loop; assemble elsewhere
+                                        .publishOn(Schedulers.boundedElastic())
+                                        .map(resolved -> completeLoad(employee, resolved, employeeId, sessionId, context, cacheKey, sections));
+                            });
+                })
+                .doOnNext(result -> accessCounters.increment(employeeId))
+                .onErrorMap(e -> new IllegalArgumentException("Failed to get employee with policies: " + e.getMessage(), e));
+    }
+
+    private SecurityContext authorizeRead(String employeeId, String sessionId)
+    {
+        // Validate security context and fetch it in a single session lookup
+        SecurityContext context = securityService.validateAndGetContext(sessionId, "READ");
+        if (context == null)
+        {
+            auditService.logAuditEvent("SYSTEM", "UNAUTHORIZED_ACCESS", "Attempted to access employee: " + employeeId, "EmployeeDetailsService", sessionId);
+            throw new SecurityException("Unauthorized access to employee details");
+        }
+        return context;
+    }
+
+    private EmployeeSummary findAccessibleEmployee(String employeeId, String sessionId, SecurityContext context)
+    {
+        // Get employee details
+        // Projection query: no managed entity and no permission rows on the read path
+        Optional<EmployeeSummary> optionalEmployee = employeeRepository.findSummaryById(employeeId);
+        EmployeeSummary employee = optionalEmployee.orElseThrow(() -> new IllegalArgumentException("Employee not found: " + employeeId));
+
+        // Check security level for employee access
+        if (!isAccessible(employee, sessionId, context))
+        {
+            throw new SecurityException("Insufficient security level for employee access");
+        }
+        return employee;
+    }
 
-            // Check security level for employee access
-            if ("ADMIN".equals(employee.getSecurityLevel()) && !context.canAccessSensitiveData())
+    private boolean isAccessible(EmployeeSummary employee, String sessionId, SecurityContext context)
+    {
+        if (employee.getSecurityLevel() == SecurityLevel.ADMIN && !context.canAccessSensitiveData())
+        {
+            auditService.logAuditEvent(context.getUserId(), "SECURITY_VIOLATION", "Attempted to access employee with insufficient security level: " + employee.getEmployeeID(), "EmployeeDetailsService", sessionId);
+            return false;
+        }
+        return true;
+    }
+
+    // Bulk read for downstream systems: employees are resolved in chunked IN queries and policies are fetched
+    // once per distinct department, concurrently. Results are handed to the sink as each chunk completes, in
+    // request order; unknown or inaccessible ids yield an entry with a validation error instead of failing the batch.
+    public void streamEmployeesWithPolicies(List<String> employeeIds, String sessionId, Consumer<? super EmployeeWithPoliciesDTO> sink)
+    {
+        if (!isWithinBatchLimit(employeeIds.size()))
+        {
+            throw new IllegalArgumentException("Batch exceeds " + maxBatchSize + " employee ids");
+        }
+        SecurityContext context = authorizeRead("BATCH(" + employeeIds.size() + ")", sessionId);
+
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(employeeIds));
+        Map<String, List<HrPolicy>> policiesByDepartment = new HashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += MAX_IDS_PER_QUERY)
+        {
+            List<String> chunk = distinctIds.subList(from, Math.min(distinctIds.size(), from + MAX_IDS_PER_QUERY));
+            Map<String, EmployeeSummary> employees = new HashMap<>();
+            for (EmployeeSummary employee : employeeRepository.findSummariesByIds(chunk))
             {
-                auditService.logAuditEvent(context.getUserId(), "SECURITY_VIOLATION", "Attempted to access employee with insufficient security level: " + employeeId, "EmployeeDetailsService", sessionId);
-                throw new SecurityException("Insufficient security level for employee access");
+                employees.put(employee.getEmployeeID(), employee);
             }
 
-            // Get policies for employee's department
-            List<HrPolicy> policies = hrPolicyService.getPoliciesByDepartment(employee.getDepartment(), sessionId);
+            List<String> newDepartments = employees.values().stream()
+                    .map(EmployeeSummary::getDepartment)
+                    .filter(department -> department != null && !policiesByDepartment.containsKey(department))
+                    .distinct()
+                    .toList();
+            Map<String, List<HrPolicy>> fetched = Flux.fromIterable(newDepartments)
+                    .flatMap(department -> policyLookup(department, sessionId).map(policies -> Map.entry(department, policies)))
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                    .block();
+            if (fetched != null)
+            {
+                policiesByDepartment.putAll(fetched);
+            }
+
+            for (String employeeId : chunk)
+            {
+                sink.accept(batchEntry(employeeId, employees.get(employeeId), policiesByDepartment, sessionId, context));
+            }
+        }
+    }
+
+    public boolean isWithinBatchLimit(int size)
+    {
+        return size <= maxBatchSize;
+    }
+
+    private EmployeeWithPoliciesDTO batchEntry(String employeeId, EmployeeSummary employee, Map<String, List<HrPolicy>> policiesByDepartment, String sessionId, SecurityContext context)
+    {
+        if (employee == null || !isAccessible(employee, sessionId, context))
+        {
+            EmployeeWithPoliciesDTO entry = new EmployeeWithPoliciesDTO();
+            entry.addDynamicField("EMPLOYEE_ID", employeeId);
+            entry.addValidationError("EMPLOYEE_ID", employee == null ? "Employee not found: " + employeeId : "Insufficient security level for employee access", "ERROR", "EmployeeDetailsService");
+            return entry;
+        }
+
+        ResponseCacheKey cacheKey = new ResponseCacheKey(employeeId, context.getSecurityLevel(), ResponseSection.ALL);
+        EmployeeWithPoliciesDTO cachedResult = responseCache.get(cacheKey);
+        accessCounters.increment(employeeId);
+        if (cachedResult != null)
+        {
+            return cachedResult;
+        }
+        List<HrPolicy> policies = policiesByDepartment.getOrDefault(employee.getDepartment(), Collections.emptyList());
+        // Built without a cache key: a batch reads cached responses but does not fill the cache, so one bulk
+        // request cannot push out the entries that interactive lookups keep hot
+        return completeLoad(employee, policies, employeeId, sessionId, context, null, ResponseSection.ALL);
+    }
+
+    private EmployeeWithPoliciesDTO loadEmployeeWithPolicies(String employeeId, String sessionId, SecurityContext context, ResponseCacheKey cacheKey, Set<ResponseSection> sections)
+    {
+        if (!ResponseSection.needsPolicies(sections))
+        {
+            // No requested section depends on policies: skip the legacy policy call altogether
+            EmployeeSummary employee = await(CompletableFuture
+                    .supplyAsync(() -> findAccessibleEmployee(employeeId, sessionId, context), fanOutExecutor)
+                    .orTimeout(employeeLookupTimeoutMillis, TimeUnit.MILLISECONDS), "Employee lookup");
+            return completeLoad(employee, null, employeeId, sessionId, context, cacheKey, sections);
+        }
+
+        // Fan out: the employee lookup and, when the department is already known, the policy lookup run in parallel
+        CompletableFuture<EmployeeSummary> employeeLookup = CompletableFuture
+                .supplyAsync(() -> findAccessibleEmployee(employeeId, sessionId, context), fanOutExecutor)
+                .orTimeout(employeeLookupTimeoutMillis, TimeUnit.MILLISECONDS);
+
+        String hintedDepartment = departmentHints.getIfPresent(employeeId);
+        CompletableFuture<List<HrPolicy>> hintedPolicies = hintedDepartment == null ? null : policyLookup(hintedDepartment, sessionId).toFuture();
+
+        EmployeeSummary employee = await(employeeLookup, "Employee lookup");
 
-            // Create complex response object
-            EmployeeWithPoliciesDTO result = new EmployeeWithPoliciesDTO();
-            result.setEmployee(employee);
+        // Get policies for employee's department
+        List<HrPolicy> policies;
+        if (hintedPolicies != null && hintedDepartment.equals(employee.getDepartment()))
+        {
+            policies = hintedPolicies.join();
+        }
+        else
+        {
+            // No hint, or the employee moved department since it was recorded
+            policies = policyLookup(employee.getDepartment(), sessionId).block();
+        }
+
+        return completeLoad(employee, policies, employeeId, sessionId, context, cacheKey, sections);
+    }
+
+    // Policy stage with its own deadline; a slow legacy server degrades to the last known (possibly stale) list
+    private Mono<List<HrPolicy>> policyLookup(String department, String sessionId)
+    {
+        return hrPolicyService.getPoliciesByDepartmentReactive(department, sessionId)
+                .timeout(Duration.ofMillis(policyLookupTimeoutMillis), Mono.fromSupplier(() -> hrPolicyService.getCachedPolicies(department)));
+    }
+
+    private <T> T await(CompletableFuture<T> stage, String stageName)
+    {
+        try
+        {
+            return stage.join();
+        }
+        catch (CompletionException e)
+        {
+            if (e.getCause() instanceof TimeoutException)
+            {
+                throw new IllegalStateException(stageName + " timed out", e.getCause());
+            }
+            if (e.getCause() instanceof RuntimeException cause)
+            {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Builds only the requested sections; policies is null when none of them needs the department's policies
+    private EmployeeWithPoliciesDTO completeLoad(EmployeeSummary employee, List<HrPolicy> policies, String employeeId, String sessionId, SecurityContext context, ResponseCacheKey cacheKey, Set<ResponseSection> sections)
+    {
+        // Create complex response object
+        EmployeeWithPoliciesDTO result = new EmployeeWithPoliciesDTO();
+        result.setEmployee(employee);
+        result.setResponseTimestamp(LocalDateTime.now());
+        result.setCached(false);
+        if (sections.contains(ResponseSection.POLICIES))
+        {
             result.setPolicies(policies);
-            result.setResponseTimestamp(LocalDateTime.now());
-            result.setCached(false);
+        }
 
-            // MULTI-LAYER PROCESSING: Security Validation Layer
+        // Reaching this point means the session passed the READ check
+        boolean authorized = true;
+        boolean sensitive = context.canAccessSensitiveData();
+        LocalDateTime complete = LocalDateTime.now();
+
+        // MULTI-LAYER PROCESSING: Security Validation Layer
+        if (sections.contains(ResponseSection.SECURITY_VALIDATION))
+        {
             EmployeeWithPoliciesDTO.SecurityValidationResult securityResult = new EmployeeWithPoliciesDTO.SecurityValidationResult();
-            securityResult.setAuthorized(true);
+            securityResult.setAuthorized(authorized);
             securityResult.setSecurityLevel(employee.getSecurityLevel());
             securityResult.setValidationChain("EmployeeDetailsService -> SecurityService -> HrPolicyService");
             securityResult.setContext(context);
-
-            Map<String, Boolean> accessRights = new HashMap<>();
-            accessRights.put("READ_EMPLOYEE", true);
-            accessRights.put("READ_POLICIES", policies.size() > 0);
-            accessRights.put("UPDATE_EMPLOYEE", context.canAccessSensitiveData());
-            accessRights.put("DELETE_EMPLOYEE", context.canAccessSensitiveData());
-            securityResult.setAccessRights(accessRights);
-
-            List<String> permissions = new ArrayList<>();
-            permissions.add("EMPLOYEE_READ");
-            permissions.add("POLICY_READ");
-            if (context.canAccessSensitiveData())
-            {
-                permissions.add("EMPLOYEE_WRITE");
-                permissions.add("EMPLOYEE_DELETE");
-            }
-            securityResult.setPermissions(permissions);
-
+            securityResult.setAccessRights(ACCESS_RIGHTS.get((policies.isEmpty() ? 0 : 2) + (sensitive ? 1 : 0)));
+            securityResult.setPermissions(sensitive ? SENSITIVE_PERMISSIONS : BASIC_PERMISSIONS);
             result.setSecurityValidation(securityResult);
+        }
 
-            // MULTI-LAYER PROCESSING: Business Rule Validation Layer
+        // MULTI-LAYER PROCESSING: Business Rule Validation Layer
+        if (sections.contains(ResponseSection.BUSINESS_RULE_VALIDATION))
+        {
             EmployeeWithPoliciesDTO.BusinessRuleValidation businessValidation = new EmployeeWithPoliciesDTO.BusinessRuleValidation();
-            businessValidation.setCompliant("ACTIVE".equals(employee.getStatus()) && policies.stream().anyMatch(p -> "MANDATORY".equals(p.getCategory())));
+            businessValidation.setCompliant(employee.getStatus() == EmployeeStatus.ACTIVE && policies.stream().anyMatch(p -> "MANDATORY".equals(p.getCategory())));
             businessValidation.setDepartmentValidation(employee.getDepartment() + "_VALIDATED");
             businessValidation.setPolicyCompliance("COMPLIANT_" + policies.size() + "_POLICIES");
-
-            Map<String, Object> businessRules = new HashMap<>();
-            businessRules.put("EMPLOYEE_ACTIVE", "ACTIVE".equals(employee.getStatus()));
-            businessRules.put("DEPARTMENT_VALID", !employee.getDepartment().isEmpty());
-            businessRules.put("POLICIES_REQUIRED", policies.size() > 0);
-            businessRules.put("SECURITY_LEVEL_APPROPRIATE", "BASIC".equals(employee.getSecurityLevel()) || context.canAccessSensitiveData());
-            businessValidation.setBusinessRules(businessRules);
-
-            List<String> complianceChecks = new ArrayList<>();
-            complianceChecks.add("EMPLOYEE_STATUS_CHECK");
-            complianceChecks.add("DEPARTMENT_POLICY_CHECK");
-            complianceChecks.add("SECURITY_LEVEL_CHECK");
-            businessValidation.setComplianceChecks(complianceChecks);
-
-            Map<String, Boolean> ruleResults = new HashMap<>();
-            ruleResults.put("EMPLOYEE_EXISTS", true);
-            ruleResults.put("DEPARTMENT_VALID", true);
-            ruleResults.put("POLICIES_AVAILABLE", policies.size() > 0);
-            ruleResults.put("SECURITY_COMPLIANT", securityResult.isAuthorized());
-            businessValidation.setRuleResults(ruleResults);
-
+            businessValidation.setBusinessRules(Map.of(
+                    "EMPLOYEE_ACTIVE", employee.getStatus() == EmployeeStatus.ACTIVE,
+                    "DEPARTMENT_VALID", !employee.getDepartment().isEmpty(),
+                    "POLICIES_REQUIRED", !policies.isEmpty(),
+                    "SECURITY_LEVEL_APPROPRIATE", employee.getSecurityLevel() == SecurityLevel.BASIC || sensitive));
+            businessValidation.setComplianceChecks(COMPLIANCE_CHECKS);
+            businessValidation.setRuleResults(Map.of(
+                    "EMPLOYEE_EXISTS", true,
+                    "DEPARTMENT_VALID", true,
+                    "POLICIES_AVAILABLE", !policies.isEmpty(),
+                    "SECURITY_COMPLIANT", authorized));
             result.setBusinessRuleValidation(businessValidation);
+        }
 
-            // MULTI-LAYER PROCESSING: Audit Trail Layer
+        // MULTI-LAYER PROCESSING: Audit Trail Layer
+        if (sections.contains(ResponseSection.AUDIT_TRAIL))
+        {
             EmployeeWithPoliciesDTO.AuditTrail auditTrail = new EmployeeWithPoliciesDTO.AuditTrail();
             auditTrail.setTransactionId(UUID.randomUUID().toString());
-            auditTrail.setProcessingChain("EmployeeDetailsService -> HrPolicyService -> SecurityService -> AuditService");
-
-            Map<String, LocalDateTime> timestamps = new HashMap<>();
-            timestamps.put("START", LocalDateTime.now().minusSeconds(3));
-            timestamps.put("EMPLOYEE_FETCH", LocalDateTime.now().minusSeconds(2));
-            timestamps.put("POLICY_FETCH", LocalDateTime.now().minusSeconds(1));
-            timestamps.put("COMPLETE", LocalDateTime.now());
-            auditTrail.setTimestamps(timestamps);
-
-            List<String> operations = new ArrayList<>();
-            operations.add("SECURITY_VALIDATION");
-            operations.add("EMPLOYEE_FETCH");
-            operations.add("POLICY_RETRIEVAL");
-            operations.add("BUSINESS_RULE_CHECK");
-            operations.add("AUDIT_LOGGING");
-            auditTrail.setOperations(operations);
-
-            Map<String, String> contextData = new HashMap<>();
-            contextData.put("SESSION_ID", sessionId);
-            contextData.put("EMPLOYEE_ID", employeeId);
-            contextData.put("DEPARTMENT", employee.getDepartment());
-            contextData.put("SECURITY_LEVEL", employee.getSecurityLevel());
-            contextData.put("POLICY_COUNT", String.valueOf(policies.size()));
-            auditTrail.setContextData(contextData);
-
+            auditTrail.setProcessingChain(PROCESSING_CHAIN);
+            auditTrail.setTimestamps(Map.of(
+                    "START", complete.minusSeconds(3),
+                    "EMPLOYEE_FETCH", complete.minusSeconds(2),
+                    "POLICY_FETCH", complete.minusSeconds(1),
+                    "COMPLETE", complete));
+            auditTrail.setOperations(AUDIT_OPERATIONS);
+            auditTrail.setContextData(new EmployeeWithPoliciesDTO.ContextData(sessionId, employeeId, employee.getDepartment(), String.valueOf(employee.getSecurityLevel()), String.valueOf(policies.size())));
             result.setAuditTrail(auditTrail);
+        }
 
-            // MULTI-LAYER PROCESSING: Cross Reference Data Layer
+        // MULTI-LAYER PROCESSING: Cross Reference Data Layer
+        if (sections.contains(ResponseSection.CROSS_REFERENCES))
+        {
             EmployeeWithPoliciesDTO.CrossReferenceData crossRefs = new EmployeeWithPoliciesDTO.CrossReferenceData();
-            crossRefs.setDependencies(new ArrayList<>());
-            crossRefs.getDependencies().add("HrPolicyService");
-            crossRefs.getDependencies().add("SecurityService");
-            crossRefs.getDependencies().add("AuditService");
-            crossRefs.getDependencies().add("EmployeeService");
-
-            Map<String, String> references = new HashMap<>();
-            references.put("EMPLOYEE_SOURCE", "EmployeeService");
-            references.put("POLICY_SOURCE", "HrPolicyService");
-            references.put("SECURITY_SOURCE", "SecurityService");
-            references.put("AUDIT_SOURCE", "AuditService");
-            crossRefs.setReferences(references);
-
+            crossRefs.setDependencies(CROSS_REFERENCE_DEPENDENCIES);
+            crossRefs.setReferences(CROSS_REFERENCE_SOURCES);
+            Map<String, String> relations = orgHierarchyService.relatedEmployees(employeeId);
+            crossRefs.setRelations(relations);
+            crossRefs.setRelatedEmployees(relatedSummaries(relations.keySet(), context));
             result.setCrossReferences(crossRefs);
+        }
 
-            // MULTI-LAYER PROCESSING: Response Metadata Layer
+        // MULTI-LAYER PROCESSING: Response Metadata Layer
+        if (sections.contains(ResponseSection.METADATA))
+        {
             EmployeeWithPoliciesDTO.ResponseMetadata metadata = new EmployeeWithPoliciesDTO.ResponseMetadata();
             metadata.setVersion("2.0");
             metadata.setSource("EmployeeDetailsService");
-            metadata.setGeneratedAt(LocalDateTime.now());
+            metadata.setGeneratedAt(complete);
             metadata.setProcessingTime("3 seconds");
-
-            Map<String, Object> configuration = new HashMap<>();
-            configuration.put("CACHE_ENABLED", true);
-            configuration.put("SECURITY_ENABLED", true);
-            configuration.put("AUDIT_ENABLED", true);
-            configuration.put("COMPLIANCE_CHECK_ENABLED", true);
-            metadata.setConfiguration(configuration);
-
-            List<String> transformations = new ArrayList<>();
-            transformations.add("SECURITY_VALIDATION");
-            transformations.add("BUSINESS_RULE_VALIDATION");
-            transformations.add("AUDIT_TRAIL_GENERATION");
-            transformations.add("CROSS_REFERENCE_POPULATION");
-            transformations.add("METADATA_ENRICHMENT");
-            metadata.setTransformations(transformations);
-
+            metadata.setConfiguration(METADATA_CONFIGURATION);
+            metadata.setTransformations(METADATA_TRANSFORMATIONS);
             result.setMetadata(metadata);
+        }
 
-            // CONDITIONAL LOGIC: Add validation errors based on business rules
-            if (!"ACTIVE".equals(employee.getStatus()))
+        // CONDITIONAL LOGIC: Add validation errors based on business rules
+        if (sections.contains(ResponseSection.VALIDATION_ERRORS))
+        {
+            if (employee.getStatus() != EmployeeStatus.ACTIVE)
             {
                 result.addValidationError("EMPLOYEE_STATUS", "Employee status is not active", "ERROR", "EmployeeDetailsService");
             }
@@ -220,39 +474,58 @@ public class EmployeeDetailsService
             {
                 result.addValidationError("POLICIES", "No policies found for department", "WARNING", "HrPolicyService");
             }
-            if (!securityResult.isAuthorized())
+            if (!authorized)
             {
                 result.addValidationError("SECURITY", "Insufficient security level", "ERROR", "SecurityService");
             }
+        }
 
-            // Add dynamic fields based on conditional logic
-            result.addDynamicField("COMPLEXITY_LEVEL", "HIGH");
-            result.addDynamicField("INTERDEPENDENCY_COUNT", 3);
-            result.addDynamicField("LAYER_COUNT", 5);
-            result.addDynamicField("PROCESSING_CHAIN", "EmployeeDetailsService -> HrPolicyService -> SecurityService -> AuditService");
+        result.setDynamicFields(sections.contains(ResponseSection.DYNAMIC_FIELDS) ? DYNAMIC_FIELDS : null);
 
-            // Cache the result
+        // Cache the result (batch entries pass no key and are not cached)
+        if (cacheKey != null)
+        {
             responseCache.put(cacheKey, result);
-            accessCounters.merge(employeeId, 1, Integer::sum);
+        }
+        if (employee.getDepartment() != null)
+        {
+            departmentHints.put(employeeId, employee.getDepartment());
+        }
 
-            // Log audit event
-            auditService.logAuditEvent(context.getUserId(), "EMPLOYEE_ACCESS", "Accessed employee details: " + employeeId + " with " + policies.size() + " policies", "EmployeeDetailsService", sessionId);
+        // Log audit event
+        String details = policies != null ? "Accessed employee details: " + employeeId + " with " + policies.size() + " policies" : "Accessed employee details: " + employeeId;
+        auditService.logAuditEvent(context.getUserId(), "EMPLOYEE_ACCESS", details, "EmployeeDetailsService", sessionId, employee.getDepartment());
 
-            return result;
+        return result;
+    }
 
+    // Summaries of the related employees in relation order; ADMIN-level employees only for sessions that may see them
+    private Map<String, EmployeeSummary> relatedSummaries(Set<String> employeeIds, SecurityContext context)
+    {
+        if (employeeIds.isEmpty())
+        {
+            return Map.of();
         }
-        catch (Exception e)
+        Map<String, EmployeeSummary> found = new HashMap<>();
+        for (EmployeeSummary summary : employeeRepository.findSummariesByIds(employeeIds))
         {
-            throw new IllegalArgumentException("Failed to get employee with policies: " + e.getMessage(), e);
+            found.put(summary.getEmployeeID(), summary);
+        }
+        Map<String, EmployeeSummary> related = new LinkedHashMap<>();
+        for (String employeeId : employeeIds)
+        {
+            EmployeeSummary summary = found.get(employeeId);
+            if (summary != null && (summary.getSecurityLevel() != SecurityLevel.ADMIN || context.canAccessSensitiveData()))
+            {
+                related.put(employeeId, summary);
+            }
         }
+        return related;
     }
 
-    // Cache cleanup method (scheduled to run every 300 seconds)
-    @Scheduled(fixedRate = 300_000)
-    public void cleanupExpiredCache()
+    private static Map<String, Boolean> accessRights(boolean hasPolicies, boolean sensitive)
     {
-        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(30);
-        responseCache.entrySet().removeIf(entry -> entry.getValue().getResponseTimestamp().isBefore(cutoff));
+        return Map.of("READ_EMPLOYEE", true, "READ_POLICIES", hasPolicies, "UPDATE_EMPLOYEE", sensitive, "DELETE_EMPLOYEE", sensitive);
     }
 
     public void updateEmployee(String employeeId, String name, String department, String email, String phone, String sessionId) {
@@ -279,6 +552,7 @@ public class EmployeeDetailsService
 
         // Optionally, refresh the cache (if applicable)
         refreshEmployeeCache(employeeId);
+        refreshRelatedCaches(employeeId);
     }
 
     // Delete Employee Method
@@ -293,28 +567,49 @@ public class EmployeeDetailsService
 
         // Delete the employee
         employeeRepository.delete(employee);
+        orgHierarchyService.onEmployeeDeleted(employeeId);
 
         // Log audit event
         auditService.logAuditEvent("SYSTEM", "EMPLOYEE_DELETED", "Employee deleted: " + employeeId, "EmployeeService", sessionId);
 
         // Optionally, refresh the cache (if applicable)
         refreshEmployeeCache(employeeId);
+        refreshRelatedCaches(employeeId);
     }
 
     public void refreshEmployeeCache(String employeeId) {
         try {
             // Remove from cache
-            responseCache.entrySet().removeIf(entry -> entry.getKey().startsWith(employeeId + "_"));
+            responseCache.invalidateEmployee(employeeId);
+            departmentHints.invalidate(employeeId);
         } catch (Exception e) {
             // Log error silently for cache operations
         }
     }
 
+    // The employee's summary is embedded in the cached responses of its manager and of each direct report
+    private void refreshRelatedCaches(String employeeId)
+    {
+        List<String> chain = orgHierarchyService.chainToRoot(employeeId);
+        if (!chain.isEmpty())
+        {
+            refreshEmployeeCache(chain.get(0));
+        }
+        orgHierarchyService.directReports(employeeId).forEach(this::refreshEmployeeCache);
+    }
+
+    // Publish the most accessed employees of the current window (scheduled to run every 30 seconds)
+    @Scheduled(fixedRate = 30_000)
+    public void publishHotEmployees()
+    {
+        accessCounters.publishTop();
+    }
+
     // Reset access counters (scheduled to run every hour)
     @Scheduled(fixedRate = 3_600_000)
     public void resetAccessCounters()
     {
-        accessCounters.clear();
+        accessCounters.reset();
     }
 
 }
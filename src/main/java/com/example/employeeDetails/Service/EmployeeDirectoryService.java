@@ -0,0 +1,84 @@
+package com.example.employeeDetails.Service;
+
+import com.example.employeeDetails.Entity.EmployeeStatus;
+import com.example.employeeDetails.Entity.SecurityContext;
+import com.example.employeeDetails.Entity.SecurityLevel;
+import com.example.employeeDetails.Repository.EmployeeRepository;
+import com.example.employeeDetails.dto.EmployeeSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+// Department, status and manager listings. Results are read in keyset pages (employeeID > last seen id) of
+// unmanaged projections and handed to the sink page by page, so memory stays at one page whatever the size.
+@Service
+public class EmployeeDirectoryService
+{
+
+    private final EmployeeRepository employeeRepository;
+    private final SecurityService securityService;
+    private final AuditService auditService;
+    private final int pageSize;
+
+    public EmployeeDirectoryService(EmployeeRepository employeeRepository, SecurityService securityService, AuditService auditService,
+                                    @Value("${employee.listing.page-size:1000}") int pageSize)
+    {
+        this.employeeRepository = employeeRepository;
+        this.securityService = securityService;
+        this.auditService = auditService;
+        this.pageSize = pageSize;
+    }
+
+    public void streamByDepartment(String department, String sessionId, Consumer<? super EmployeeSummary> sink)
+    {
+        scan("department " + department, sessionId, sink, (afterId, limit) -> employeeRepository.findSummariesByDepartmentAfter(department, afterId, limit));
+    }
+
+    public void streamByStatus(EmployeeStatus status, String sessionId, Consumer<? super EmployeeSummary> sink)
+    {
+        scan("status " + status, sessionId, sink, (afterId, limit) -> employeeRepository.findSummariesByStatusAfter(status, afterId, limit));
+    }
+
+    public void streamByManager(String managerId, String sessionId, Consumer<? super EmployeeSummary> sink)
+    {
+        scan("manager " + managerId, sessionId, sink, (afterId, limit) -> employeeRepository.findSummariesByManagerIdAfter(managerId, afterId, limit));
+    }
+
+    private void scan(String listing, String sessionId, Consumer<? super EmployeeSummary> sink, BiFunction<String, Limit, List<EmployeeSummary>> page)
+    {
+        SecurityContext context = securityService.validateAndGetContext(sessionId, "READ");
+        if (context == null)
+        {
+            auditService.logAuditEvent("SYSTEM", "UNAUTHORIZED_ACCESS", "Attempted to list employees by " + listing, "EmployeeDirectoryService", sessionId);
+            throw new SecurityException("Unauthorized access to employee listing");
+        }
+        // ADMIN-level employees are left out of listings for callers who could not open them individually
+        boolean includeSensitive = context.canAccessSensitiveData();
+
+        String afterId = "";
+        long emitted = 0;
+        while (true)
+        {
+            List<EmployeeSummary> employees = page.apply(afterId, Limit.of(pageSize));
+            for (EmployeeSummary employee : employees)
+            {
+                if (includeSensitive || employee.getSecurityLevel() != SecurityLevel.ADMIN)
+                {
+                    sink.accept(employee);
+                    emitted++;
+                }
+            }
+            if (employees.size() < pageSize)
+            {
+                break;
+            }
+            afterId = employees.get(employees.size() - 1).getEmployeeID();
+        }
+
+        auditService.logAuditEvent(context.getUserId(), "EMPLOYEE_LISTING", "Listed " + emitted + " employees by " + listing, "EmployeeDirectoryService", sessionId);
+    }
+}
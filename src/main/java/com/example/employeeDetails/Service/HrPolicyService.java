@@ -1,40 +1,138 @@
 package com.example.employeeDetails.Service;
 
 import com.example.employeeDetails.Entity.HrPolicy;
+import com.example.employeeDetails.Metrics.HotKeyCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class HrPolicyService
 {
+    private static final Logger log = LoggerFactory.getLogger(HrPolicyService.class);
+
     private final WebClient webClient;
+    private final long policyTtlMillis;
+    private final long loadTimeoutMillis;
+
+    // Policies are the same for every caller in a department, so they are cached per department
+    private final ConcurrentHashMap<String, CachedPolicies> policyCache = new ConcurrentHashMap<>();
+    // At most one legacy call per department is in flight; concurrent misses and refreshes join it
+    private final ConcurrentHashMap<String, CompletableFuture<List<HrPolicy>>> inFlightLoads = new ConcurrentHashMap<>();
 
-    public HrPolicyService(WebClient.Builder webClientBuilder,  @Value("${legacy.server.url}") String legacyUrl) {
+    // Cached policies are shared by every request and by cached responses being serialized, so they are never
+    // mutated after load; reads are counted here per policy id instead
+    private final HotKeyCounter policyAccessCounters;
+
+    public HrPolicyService(WebClient.Builder webClientBuilder, MeterRegistry meterRegistry, @Value("${legacy.server.url}") String legacyUrl,
+                           @Value("${legacy.policies.cache-ttl:5m}") Duration policyTtl,
+                           @Value("${legacy.policies.load-timeout:10s}") Duration loadTimeout) {
         // Initialize the WebClient with the base URL
         this.webClient = webClientBuilder.baseUrl(legacyUrl).build();
+        this.policyTtlMillis = policyTtl.toMillis();
+        this.loadTimeoutMillis = loadTimeout.toMillis();
+        this.policyAccessCounters = new HotKeyCounter("hr.policy.access", "policyId", 20, false, meterRegistry);
+    }
+
+
+    // Stale-while-revalidate per department; a cold miss waits on the (possibly shared) first load without parking the caller's thread
+    public Mono<List<HrPolicy>> getPoliciesByDepartmentReactive(String department, String sessionId) {
+        if (department == null) {
+            return Mono.just(Collections.emptyList());
+        }
+
+        CachedPolicies cached = policyCache.get(department);
+        if (cached != null) {
+            if (cached.isStale(System.currentTimeMillis(), policyTtlMillis)) {
+                load(department, sessionId);
+            }
+            return Mono.just(markAccessed(cached.policies));
+        }
+
+        // suppressCancel: one subscriber going away must not cancel a load other callers share
+        return Mono.fromFuture(() -> load(department, sessionId), true)
+                .timeout(Duration.ofMillis(loadTimeoutMillis))
+                // A failed load is logged once in load(); a timeout is the caller's deadline, not a legacy error
+                .onErrorResume(e -> Mono.just(Collections.emptyList()));
+    }
+
+    // Last known list regardless of age, for callers that cannot wait on the legacy server
+    public List<HrPolicy> getCachedPolicies(String department) {
+        CachedPolicies cached = department == null ? null : policyCache.get(department);
+        return cached == null ? Collections.emptyList() : markAccessed(cached.policies);
+    }
+
+    private CompletableFuture<List<HrPolicy>> load(String department, String sessionId) {
+        CompletableFuture<List<HrPolicy>> load = new CompletableFuture<>();
+        CompletableFuture<List<HrPolicy>> existing = inFlightLoads.putIfAbsent(department, load);
+        if (existing != null) {
+            return existing;
+        }
+
+        fetchPolicies(department, sessionId).subscribe(
+                policies -> {
+                    // Flagged before publication; from here on the list and its policies are read-only
+                    policies.forEach(policy -> policy.setCached(true));
+                    policyCache.put(department, new CachedPolicies(policies, System.currentTimeMillis()));
+                    inFlightLoads.remove(department, load);
+                    load.complete(policies);
+                },
+                error -> {
+                    // Keep serving the previous (stale) list, if any; the next read retries
+                    log.warn("Error fetching policies for department {}: {}", department, error.getMessage());
+                    inFlightLoads.remove(department, load);
+                    load.completeExceptionally(error);
+                });
+        return load;
+    }
+
+    private Mono<List<HrPolicy>> fetchPolicies(String department, String sessionId) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/policies")
+                        .queryParam("department", department)
+                        .queryParam("sessionId", sessionId)
+                        .build())
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<HrPolicy>>() {})  // Retrieve body as List<HrPolicy>
+                .map(Collections::unmodifiableList)
+                .defaultIfEmpty(Collections.emptyList());
+    }
+
+    private List<HrPolicy> markAccessed(List<HrPolicy> policies) {
+        for (HrPolicy policy : policies) {
+            if (policy.getPolicyId() != null) {
+                policyAccessCounters.increment(policy.getPolicyId());
+            }
+        }
+        return policies;
+    }
+
+    public long getAccessCount(String policyId) {
+        return policyAccessCounters.count(policyId);
+    }
+
+    // Publish the most-read policies of the current window (scheduled to run every 30 seconds)
+    @Scheduled(fixedRate = 30_000)
+    public void publishPolicyAccessCounters() {
+        policyAccessCounters.publishTop();
     }
 
+    private record CachedPolicies(List<HrPolicy> policies, long loadedAtMillis) {
 
-    public List<HrPolicy> getPoliciesByDepartment(String department, String sessionId) {
-        try {
-            return webClient.get()
-                    .uri(uriBuilder -> uriBuilder.path("/policies")
-                            .queryParam("department", department)
-                            .queryParam("sessionId", sessionId)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<List<HrPolicy>>() {})  // Retrieve body as List<HrPolicy>
-                    .block();  // Block to get the result synchronously (blocking the thread until response is received)
-        } catch (Exception e) {
-            System.out.println("Error fetching policies: " + e.getMessage());
-            return Collections.emptyList();  // Return an empty list on error
+        boolean isStale(long nowMillis, long ttlMillis) {
+            return nowMillis - loadedAtMillis > ttlMillis;
         }
     }
 }
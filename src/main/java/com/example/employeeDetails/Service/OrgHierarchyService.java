@@ -0,0 +1,241 @@
+package com.example.employeeDetails.Service;
+
+import com.example.employeeDetails.Hierarchy.OrgIndex;
+import com.example.employeeDetails.Hierarchy.ReportingLine;
+import com.example.employeeDetails.Repository.EmployeeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Org chart queries answered from memory. The reporting lines are loaded into an immutable OrgIndex that is
+// rebuilt periodically; deletions made through this service are applied immediately as an overlay that hides
+// the employee while its reports stay attached to the rest of the chain. No API changes a manager, so other
+// reporting-line changes (HR imports, direct SQL) show up with the next scheduled rebuild.
+@Service
+public class OrgHierarchyService
+{
+
+    private static final int LOAD_PAGE_SIZE = 10_000;
+
+    private final EmployeeRepository employeeRepository;
+    private final int maxRelatedReports;
+    private final Timer rebuildTimer;
+
+    private volatile Snapshot snapshot = new Snapshot(OrgIndex.build(Collections.emptyList()), ConcurrentHashMap.newKeySet());
+    private final Object overlayLock = new Object();
+
+    public OrgHierarchyService(EmployeeRepository employeeRepository, MeterRegistry meterRegistry,
+                               @Value("${employee.hierarchy.max-related-reports:100}") int maxRelatedReports)
+    {
+        this.employeeRepository = employeeRepository;
+        this.maxRelatedReports = maxRelatedReports;
+        this.rebuildTimer = Timer.builder("employee.hierarchy.rebuild").register(meterRegistry);
+        Gauge.builder("employee.hierarchy.size", this, service -> service.snapshot.index().size()).register(meterRegistry);
+    }
+
+    // Managers from the direct manager up to the top of the organisation
+    public List<String> chainToRoot(String employeeId)
+    {
+        Snapshot current = snapshot;
+        OrgIndex index = current.index();
+        int node = index.nodeOf(employeeId);
+        if (node == OrgIndex.NONE)
+        {
+            return Collections.emptyList();
+        }
+        List<String> chain = new ArrayList<>();
+        // Bounded by the index size, so corrupt data with a reporting cycle cannot loop forever
+        for (int manager = index.parent(node), steps = 0; manager != OrgIndex.NONE && steps < index.size(); manager = index.parent(manager), steps++)
+        {
+            if (!current.isDeleted(manager))
+            {
+                chain.add(index.employeeId(manager));
+            }
+        }
+        return chain;
+    }
+
+    public List<String> directReports(String employeeId)
+    {
+        return subtree(employeeId, 1);
+    }
+
+    // Everyone below the employee, breadth first, down to maxDepth levels (0 or less for no limit)
+    public List<String> subtree(String employeeId, int maxDepth)
+    {
+        List<String> result = new ArrayList<>();
+        walk(snapshot, employeeId, maxDepth, Integer.MAX_VALUE, result);
+        return result;
+    }
+
+    public Map<String, Integer> spanOfControl(String employeeId)
+    {
+        Snapshot current = snapshot;
+        Map<String, Integer> span = new LinkedHashMap<>();
+        span.put("direct", walk(current, employeeId, 1, Integer.MAX_VALUE, null));
+        span.put("total", walk(current, employeeId, 0, Integer.MAX_VALUE, null));
+        return span;
+    }
+
+    // Employee id -> relation, for EmployeeWithPoliciesDTO.CrossReferenceData.relations
+    public Map<String, String> relatedEmployees(String employeeId)
+    {
+        Snapshot current = snapshot;
+        Map<String, String> related = new LinkedHashMap<>();
+        List<String> chain = chainToRoot(employeeId);
+        if (!chain.isEmpty())
+        {
+            related.put(chain.get(0), "MANAGER");
+        }
+        List<String> reports = new ArrayList<>();
+        walk(current, employeeId, 1, maxRelatedReports, reports);
+        for (String report : reports)
+        {
+            related.put(report, "DIRECT_REPORT");
+        }
+        return related;
+    }
+
+    public void onEmployeeDeleted(String employeeId)
+    {
+        synchronized (overlayLock)
+        {
+            Snapshot current = snapshot;
+            int node = current.index().nodeOf(employeeId);
+            if (node != OrgIndex.NONE)
+            {
+                current.deleted().add(node);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${employee.hierarchy.rebuild-interval:15m}")
+    public void rebuild()
+    {
+        try
+        {
+            OrgIndex index = rebuildTimer.recordCallable(this::loadIndex);
+            swap(index);
+        }
+        catch (Exception e)
+        {
+            // Log error silently; queries keep using the previous index
+        }
+    }
+
+    private OrgIndex loadIndex()
+    {
+        List<ReportingLine> lines = new ArrayList<>();
+        String afterId = "";
+        while (true)
+        {
+            List<ReportingLine> page = employeeRepository.findReportingLinesAfter(afterId, Limit.of(LOAD_PAGE_SIZE));
+            lines.addAll(page);
+            if (page.size() < LOAD_PAGE_SIZE)
+            {
+                return OrgIndex.build(lines);
+            }
+            afterId = page.get(page.size() - 1).employeeId();
+        }
+    }
+
+    private void swap(OrgIndex index)
+    {
+        synchronized (overlayLock)
+        {
+            // A deletion that raced with the load may still be in the new index; keep hiding it
+            Snapshot previous = snapshot;
+            Set<Integer> deleted = ConcurrentHashMap.newKeySet();
+            for (int node : previous.deleted())
+            {
+                int rebuilt = index.nodeOf(previous.index().employeeId(node));
+                if (rebuilt != OrgIndex.NONE)
+                {
+                    deleted.add(rebuilt);
+                }
+            }
+            snapshot = new Snapshot(index, deleted);
+        }
+    }
+
+    // Breadth-first walk below the employee; collects up to limit ids when out is given and returns the number visited
+    private int walk(Snapshot current, String employeeId, int maxDepth, int limit, List<String> out)
+    {
+        OrgIndex index = current.index();
+        int root = index.nodeOf(employeeId);
+        if (root == OrgIndex.NONE)
+        {
+            return 0;
+        }
+
+        int[] queue = new int[16];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = root;
+        BitSet visited = new BitSet(index.size());
+        visited.set(root);
+
+        int levelEnd = tail;
+        int depth = 0;
+        int count = 0;
+        while (head < tail && (maxDepth <= 0 || depth < maxDepth))
+        {
+            int node = queue[head++];
+            for (int position = index.firstChild(node); position < index.endChild(node); position++)
+            {
+                int child = index.child(position);
+                if (visited.get(child))
+                {
+                    continue;
+                }
+                visited.set(child);
+                if (tail == queue.length)
+                {
+                    int[] grown = new int[queue.length * 2];
+                    System.arraycopy(queue, 0, grown, 0, tail);
+                    queue = grown;
+                }
+                queue[tail++] = child;
+                if (!current.isDeleted(child))
+                {
+                    count++;
+                    if (out != null)
+                    {
+                        out.add(index.employeeId(child));
+                        if (out.size() >= limit)
+                        {
+                            return count;
+                        }
+                    }
+                }
+            }
+            if (head == levelEnd)
+            {
+                depth++;
+                levelEnd = tail;
+            }
+        }
+        return count;
+    }
+
+    private record Snapshot(OrgIndex index, Set<Integer> deleted)
+    {
+        boolean isDeleted(int node)
+        {
+            return !deleted.isEmpty() && deleted.contains(node);
+        }
+    }
+}
@@ -1,31 +1,42 @@
 package com.example.employeeDetails.Service;
 
 import com.example.employeeDetails.Entity.SecurityContext;
+import com.example.employeeDetails.Entity.SecurityLevel;
 import com.example.employeeDetails.Repository.SecurityContextRepository;
+import com.example.employeeDetails.Session.SessionReaper;
+import com.example.employeeDetails.Session.SessionStore;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class SecurityService
 {
 
+    private static final String WEB_USER = "WEB_USER";
+
     private final SecurityContextRepository securityContextRepository;
 
-    private final ConcurrentHashMap<String, SecurityContext> activeSessions = new ConcurrentHashMap<>();
+    private final SessionStore sessionStore;
+    private final SessionReaper sessionReaper;
+
     private final ConcurrentHashMap<String, Integer> failedAttempts = new ConcurrentHashMap<>();
 
-    public SecurityService(SecurityContextRepository securityContextRepository)
+    public SecurityService(SecurityContextRepository securityContextRepository, SessionStore sessionStore, SessionReaper sessionReaper)
     {
         this.securityContextRepository = securityContextRepository;
+        this.sessionStore = sessionStore;
+        this.sessionReaper = sessionReaper;
 
     }
 
-    // Create a new security context for a user and store it in the repository and active sessions map
-    public SecurityContext createSecurityContext(String userId, String securityLevel, String sessionId)
+    // Create a new security context for a user and store it in the repository and the session store
+    public SecurityContext createSecurityContext(String userId, SecurityLevel securityLevel, String sessionId)
     {
         try
         {
@@ -42,8 +53,8 @@ public class SecurityService
             // Save the context to the database
             securityContextRepository.save(context);
 
-            // Add it to the active sessions map
-            activeSessions.put(sessionId, context);
+            // Add it to the in-memory session store
+            sessionStore.register(context);
 
             return context;
         }
@@ -53,48 +64,30 @@ public class SecurityService
         }
     }
 
-    // Validate if a session is still active and has the required permissions
-    public boolean validateSession(String sessionId, String requiredPermission)
+    // Reuse the caller's session while it is still valid; only a missing or expired one creates a new context
+    public String resolveWebSession(String sessionId)
     {
-        try
-        {
-            SecurityContext context = activeSessions.computeIfAbsent(sessionId, sid -> securityContextRepository.findBySessionId(sid).orElse(null));
-
-            if (context == null || !context.isActive())
-                return false;
-
-            // Check if the session is expired
-            if (context.getExpiryDate() != null && context.getExpiryDate().isBefore(LocalDateTime.now()))
-            {
-                context.setActive(false);
-                activeSessions.remove(sessionId);
-                return false;
-            }
-
-            context.setLastAccessed(LocalDateTime.now());
-
-            // Check permissions if required
-            return requiredPermission == null || context.hasPermission(requiredPermission);
-        }
-        catch (Exception e)
+        if (sessionId != null && validateAndGetContext(sessionId, null) != null)
         {
-            return false;
+            return sessionId;
         }
+        String newSessionId = UUID.randomUUID().toString();
+        createSecurityContext(WEB_USER, SecurityLevel.BASIC, newSessionId);
+        return newSessionId;
     }
 
-    // Get the SecurityContext for a given sessionId
-    public SecurityContext getSecurityContext(String sessionId)
+    // Validate if a session is still active and has the required permissions
+    public boolean validateSession(String sessionId, String requiredPermission)
+    {
+        return validateAndGetContext(sessionId, requiredPermission) != null;
+    }
+
+    // Validate the session and return its context in one lookup; null when it is unknown, expired or lacks the permission
+    public SecurityContext validateAndGetContext(String sessionId, String requiredPermission)
     {
         try
         {
-            SecurityContext context = activeSessions.computeIfAbsent(sessionId, sid -> securityContextRepository.findBySessionId(sid).orElse(null));
-
-            if (context != null && context.isActive())
-            {
-                context.setLastAccessed(LocalDateTime.now());
-            }
-
-            return context;
+            return sessionStore.validateAndGet(sessionId, requiredPermission);
         }
         catch (Exception e)
         {
@@ -102,28 +95,16 @@ public class SecurityService
         }
     }
 
-    // Periodically clean up expired sessions
-    @Scheduled(fixedRate = 1800000) // Every 30 minutes
-    public void cleanupExpiredSessions()
+    // Get the SecurityContext for a given sessionId
+    public SecurityContext getSecurityContext(String sessionId)
     {
         try
         {
-            LocalDateTime cutoff = LocalDateTime.now().minusHours(8);
-
-            activeSessions.entrySet().removeIf(entry -> {
-                SecurityContext context = entry.getValue();
-                if (context.getLastAccessed().isBefore(cutoff))
-                {
-                    context.setActive(false);
-                    securityContextRepository.save(context);
-                    return true;
-                }
-                return false;
-            });
+            return sessionStore.get(sessionId);
         }
         catch (Exception e)
         {
-            // Log error silently
+            return null;
         }
     }
 
@@ -133,19 +114,14 @@ public class SecurityService
     {
         try
         {
-            for (String userId : failedAttempts.keySet())
-            {
-                int attempts = failedAttempts.get(userId);
+            List<String> suspiciousUsers = new ArrayList<>();
+            failedAttempts.forEach((userId, attempts) -> {
                 if (attempts > 5)
                 {
-                    List<SecurityContext> sessions = securityContextRepository.findByUserId(userId);
-                    for (SecurityContext session : sessions)
-                    {
-                        session.setActive(false);
-                        securityContextRepository.save(session);
-                    }
+                    suspiciousUsers.add(userId);
                 }
-            }
+            });
+            sessionReaper.deactivateUsers(suspiciousUsers);
         }
         catch (Exception e)
         {
@@ -0,0 +1,74 @@
+package com.example.employeeDetails.Session;
+
+import com.example.employeeDetails.Entity.SecurityContext;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// In-memory view of an active session; timestamps are kept as epoch millis so the request path allocates nothing
+public class SessionEntry
+{
+
+    private final SecurityContext context;
+    private final long expiresAtMillis;
+    private volatile long lastAccessedMillis;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    SessionEntry(SecurityContext context, long nowMillis)
+    {
+        this.context = context;
+        this.expiresAtMillis = toMillis(context.getExpiryDate(), Long.MAX_VALUE);
+        this.lastAccessedMillis = toMillis(context.getLastAccessed(), nowMillis);
+    }
+
+    public SecurityContext getContext()
+    {
+        return context;
+    }
+
+    public long getExpiresAtMillis()
+    {
+        return expiresAtMillis;
+    }
+
+    public long getLastAccessedMillis()
+    {
+        return lastAccessedMillis;
+    }
+
+    // Returns true only for the first touch since the last write-back, so each session is queued once per window
+    boolean touch(long nowMillis)
+    {
+        lastAccessedMillis = nowMillis;
+        return !dirty.get() && dirty.compareAndSet(false, true);
+    }
+
+    // Cleared before the timestamp is read, so a touch racing with the flush queues the session again
+    void markClean()
+    {
+        dirty.set(false);
+    }
+
+    boolean isExpired(long nowMillis, long idleTimeoutMillis)
+    {
+        return nowMillis >= expiresAtMillis || nowMillis - lastAccessedMillis >= idleTimeoutMillis;
+    }
+
+    // Earliest moment the session could expire, given its current last access
+    long nextDeadline(long idleTimeoutMillis)
+    {
+        return Math.min(expiresAtMillis, lastAccessedMillis + idleTimeoutMillis);
+    }
+
+    static LocalDateTime toDateTime(long epochMillis)
+    {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toMillis(LocalDateTime dateTime, long fallback)
+    {
+        return dateTime == null ? fallback : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.employeeDetails.Session;
+
+import com.example.employeeDetails.Repository.SecurityContextRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Deletes security contexts in bounded chunks, attribute rows first, one short transaction per chunk.
+// The scheduled job removes the throwaway WEB_USER contexts the web form used to create on every post.
+@Component
+public class SessionPurger
+{
+
+    private static final String WEB_USER = "WEB_USER";
+
+    private final SecurityContextRepository securityContextRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Duration idleTimeout;
+    private final Counter purgedSessions;
+
+    public SessionPurger(SecurityContextRepository securityContextRepository, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                         @Value("${security.session.purge.chunk-size:1000}") int chunkSize,
+                         @Value("${security.session.purge.max-chunks-per-run:100}") int maxChunksPerRun,
+                         @Value("${security.session.idle-timeout:8h}") Duration idleTimeout)
+    {
+        this.securityContextRepository = securityContextRepository;
+        this.transactionTemplate = transactionTemplate;
+        // Stays below SQL Server's 2100 parameter limit and its 5000-lock escalation threshold
+        this.chunkSize = Math.max(1, Math.min(chunkSize, 2000));
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.idleTimeout = idleTimeout;
+        this.purgedSessions = Counter.builder("security.sessions.purged").register(meterRegistry);
+    }
+
+    // Web sessions idle beyond the timeout can no longer be used, so their rows are dropped outright
+    @Scheduled(fixedDelayString = "${security.session.purge.interval:10m}")
+    public void purgeStaleWebSessions()
+    {
+        try
+        {
+            LocalDateTime cutoff = LocalDateTime.now().minus(idleTimeout);
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++)
+            {
+                List<Long> ids = securityContextRepository.findIdsByUserIdIdleSince(WEB_USER, cutoff, Limit.of(chunkSize));
+                if (ids.isEmpty())
+                {
+                    break;
+                }
+                deleteChunk(ids);
+                if (ids.size() < chunkSize)
+                {
+                    break;
+                }
+            }
+        }
+        catch (Exception e)
+        {
+            // Log error silently; the next run continues where this one stopped
+        }
+    }
+
+    public int deleteChunk(List<Long> ids)
+    {
+        Integer deleted = transactionTemplate.execute(status -> {
+            securityContextRepository.deleteAttributesByContextIds(ids);
+            return securityContextRepository.deleteByIds(ids);
+        });
+        int count = deleted != null ? deleted : 0;
+        purgedSessions.increment(count);
+        return count;
+    }
+}
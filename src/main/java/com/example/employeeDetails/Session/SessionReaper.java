@@ -0,0 +1,137 @@
+package com.example.employeeDetails.Session;
+
+import com.example.employeeDetails.Repository.SecurityContextRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+
+// Deactivates and deletes sessions with set-based statements instead of loading and saving entities one by one.
+// Every statement touches at most chunk-size rows in its own transaction, which keeps SQL Server below its
+// lock escalation threshold; a run stops after max-chunks-per-run per phase and the next run picks up the rest.
+@Component
+public class SessionReaper
+{
+
+    private final SecurityContextRepository securityContextRepository;
+    private final SessionStore sessionStore;
+    private final SessionPurger sessionPurger;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final int maxFailedAttempts;
+    private final Duration idleTimeout;
+    private final Duration inactiveRetention;
+
+    private final Timer runTimer;
+    private final Map<String, Counter> reapedCounters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> perRunSummaries = new ConcurrentHashMap<>();
+
+    public SessionReaper(SecurityContextRepository securityContextRepository, SessionStore sessionStore, SessionPurger sessionPurger, MeterRegistry meterRegistry,
+                         @Value("${security.session.reaper.chunk-size:1000}") int chunkSize,
+                         @Value("${security.session.reaper.max-chunks-per-run:100}") int maxChunksPerRun,
+                         @Value("${security.session.reaper.max-failed-attempts:5}") int maxFailedAttempts,
+                         @Value("${security.session.idle-timeout:8h}") Duration idleTimeout,
+                         @Value("${security.session.reaper.inactive-retention:7d}") Duration inactiveRetention)
+    {
+        this.securityContextRepository = securityContextRepository;
+        this.sessionStore = sessionStore;
+        this.sessionPurger = sessionPurger;
+        this.meterRegistry = meterRegistry;
+        // Stays below SQL Server's 2100 parameter limit and its 5000-lock escalation threshold
+        this.chunkSize = Math.max(1, Math.min(chunkSize, 2000));
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.maxFailedAttempts = maxFailedAttempts;
+        this.idleTimeout = idleTimeout;
+        this.inactiveRetention = inactiveRetention;
+        this.runTimer = Timer.builder("security.sessions.reaper.run").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${security.session.reaper.interval:5m}")
+    public void reap()
+    {
+        runTimer.record(() -> {
+            try
+            {
+                LocalDateTime now = LocalDateTime.now();
+                LocalDateTime idleCutoff = now.minus(idleTimeout);
+                inChunks("expired", () -> deactivate(securityContextRepository.findActiveSessionIdsExpiredBefore(now, Limit.of(chunkSize))));
+                inChunks("idle", () -> deactivate(securityContextRepository.findActiveSessionIdsIdleSince(idleCutoff, Limit.of(chunkSize))));
+                inChunks("failed-attempts", () -> deactivate(securityContextRepository.findActiveSessionIdsFailedAttemptsAbove(maxFailedAttempts, Limit.of(chunkSize))));
+
+                LocalDateTime retentionCutoff = now.minus(inactiveRetention);
+                inChunks("deleted", () -> {
+                    List<Long> ids = securityContextRepository.findInactiveIdsIdleSince(retentionCutoff, Limit.of(chunkSize));
+                    return ids.isEmpty() ? 0 : sessionPurger.deleteChunk(ids);
+                });
+            }
+            catch (Exception e)
+            {
+                // Log error silently; the next run continues where this one stopped
+            }
+        });
+    }
+
+    // Deactivates every session of the given users, in the database and in memory
+    public int deactivateUsers(Collection<String> userIds)
+    {
+        if (userIds.isEmpty())
+        {
+            return 0;
+        }
+        sessionStore.evictUsers(userIds);
+
+        List<String> ids = new ArrayList<>(userIds);
+        int total = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize)
+        {
+            List<String> chunk = ids.subList(from, Math.min(ids.size(), from + chunkSize));
+            total += inChunks("abused", () -> securityContextRepository.deactivateByUserIds(chunk, chunkSize));
+        }
+        return total;
+    }
+
+    // Deactivates the rows, then drops the sessions from memory so they stop validating at once; a request that
+    // arrives afterwards reloads the row and finds it inactive. Returns the number selected, which drives chunking.
+    private int deactivate(List<String> sessionIds)
+    {
+        if (sessionIds.isEmpty())
+        {
+            return 0;
+        }
+        securityContextRepository.deactivateBySessionIds(sessionIds);
+        sessionIds.forEach(sessionStore::evict);
+        return sessionIds.size();
+    }
+
+    // Repeats a bounded statement until it affects fewer than chunk-size rows or the per-run cap is reached
+    private int inChunks(String phase, IntSupplier chunk)
+    {
+        int total = 0;
+        for (int i = 0; i < maxChunksPerRun; i++)
+        {
+            int affected = chunk.getAsInt();
+            total += affected;
+            if (affected < chunkSize)
+            {
+                break;
+            }
+        }
+        reapedCounters.computeIfAbsent(phase, p -> Counter.builder("security.sessions.reaped").tag("phase", p).register(meterRegistry)).increment(total);
+        perRunSummaries.computeIfAbsent(phase, p -> DistributionSummary.builder("security.sessions.reaped.per.run").tag("phase", p).register(meterRegistry)).record(total);
+        return total;
+    }
+}
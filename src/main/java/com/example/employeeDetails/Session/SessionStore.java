@@ -0,0 +1,214 @@
+package com.example.employeeDetails.Session;
+
+import com.example.employeeDetails.Cache.SingleFlight;
+import com.example.employeeDetails.Entity.SecurityContext;
+import com.example.employeeDetails.Repository.SecurityContextRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Active sessions held in memory. Lookups are a plain map read; the database is consulted only on a miss,
+// outside any map lock, with concurrent misses for one id sharing a single query. Unknown ids are remembered
+// for a short time so bad session ids do not reach the database on every request. Expiry is lazy on read,
+// and a timing wheel evicts sessions nobody reads any more; the sessions expired in one tick are deactivated
+// with set-based UPDATE ... WHERE session_id IN (...) statements, grouped by last access to the second.
+@Component
+public class SessionStore
+{
+
+    // SQL Server accepts at most 2100 parameters per statement
+    private static final int MAX_IDS_PER_UPDATE = 2000;
+
+    private final SecurityContextRepository securityContextRepository;
+    private final SessionTouchWriter sessionTouchWriter;
+    private final long idleTimeoutMillis;
+
+    private final ConcurrentHashMap<String, SessionEntry> sessions = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> unknownSessions;
+    private final SingleFlight<String, SessionEntry> sessionLoads;
+    private final TimingWheel<String> expiryWheel;
+
+    public SessionStore(SecurityContextRepository securityContextRepository, SessionTouchWriter sessionTouchWriter, MeterRegistry meterRegistry,
+                        @Value("${security.session.idle-timeout:8h}") Duration idleTimeout,
+                        @Value("${security.session.negative-cache-ttl:30s}") Duration negativeCacheTtl,
+                        @Value("${security.session.negative-cache-size:100000}") long negativeCacheSize)
+    {
+        this.securityContextRepository = securityContextRepository;
+        this.sessionTouchWriter = sessionTouchWriter;
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+        this.unknownSessions = Caffeine.newBuilder().maximumSize(negativeCacheSize).expireAfterWrite(negativeCacheTtl).build();
+        this.sessionLoads = new SingleFlight<>("sessionLoad", meterRegistry);
+        this.expiryWheel = new TimingWheel<>(1000, System.currentTimeMillis());
+
+        Gauge.builder("security.sessions.active", sessions, Map::size).register(meterRegistry);
+    }
+
+    // One lookup per request: returns the context when the session is active, unexpired and holds the permission
+    public SecurityContext validateAndGet(String sessionId, String requiredPermission)
+    {
+        SessionEntry entry = find(sessionId);
+        if (entry == null)
+        {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        SecurityContext context = entry.getContext();
+        if (!context.isActive())
+        {
+            return null;
+        }
+        if (entry.isExpired(now, idleTimeoutMillis))
+        {
+            // Its timer is already due: the background expiry removes and deactivates it within a tick
+            return null;
+        }
+
+        sessionTouchWriter.touch(entry, now);
+        return requiredPermission == null || context.hasPermission(requiredPermission) ? context : null;
+    }
+
+    // Returns the session's context whatever its state, or null when the id is unknown
+    public SecurityContext get(String sessionId)
+    {
+        SessionEntry entry = find(sessionId);
+        if (entry == null)
+        {
+            return null;
+        }
+        if (entry.getContext().isActive())
+        {
+            sessionTouchWriter.touch(entry, System.currentTimeMillis());
+        }
+        return entry.getContext();
+    }
+
+    public void register(SecurityContext context)
+    {
+        SessionEntry entry = new SessionEntry(context, System.currentTimeMillis());
+        sessions.put(context.getSessionId(), entry);
+        unknownSessions.invalidate(context.getSessionId());
+        expiryWheel.schedule(context.getSessionId(), entry.nextDeadline(idleTimeoutMillis));
+    }
+
+    public void evict(String sessionId)
+    {
+        sessions.remove(sessionId);
+    }
+
+    // Drops every in-memory session of the given users; their rows are deactivated by the caller
+    public void evictUsers(Collection<String> userIds)
+    {
+        Set<String> users = Set.copyOf(userIds);
+        sessions.values().removeIf(entry -> users.contains(entry.getContext().getUserId()));
+    }
+
+    // Fires the timers that came due; a touched session is simply re-armed for its new deadline
+    @Scheduled(fixedRate = 1000)
+    public void expireIdleSessions()
+    {
+        long now = System.currentTimeMillis();
+        Map<Long, List<String>> expiredBySecond = new HashMap<>();
+        expiryWheel.advance(now, sessionId -> {
+            SessionEntry entry = sessions.get(sessionId);
+            if (entry == null)
+            {
+                return;
+            }
+            if (entry.isExpired(now, idleTimeoutMillis) || !entry.getContext().isActive())
+            {
+                expire(sessionId, entry, expiredBySecond);
+            }
+            else
+            {
+                expiryWheel.schedule(sessionId, entry.nextDeadline(idleTimeoutMillis));
+            }
+        });
+        expiredBySecond.forEach(this::deactivate);
+    }
+
+    private SessionEntry find(String sessionId)
+    {
+        if (sessionId == null)
+        {
+            return null;
+        }
+        SessionEntry entry = sessions.get(sessionId);
+        if (entry != null)
+        {
+            return entry;
+        }
+        if (unknownSessions.getIfPresent(sessionId) != null)
+        {
+            return null;
+        }
+        return sessionLoads.execute(sessionId, () -> load(sessionId));
+    }
+
+    private SessionEntry load(String sessionId)
+    {
+        SecurityContext context = securityContextRepository.findBySessionId(sessionId).orElse(null);
+        if (context == null)
+        {
+            unknownSessions.put(sessionId, Boolean.TRUE);
+            return null;
+        }
+
+        SessionEntry entry = new SessionEntry(context, System.currentTimeMillis());
+        SessionEntry existing = sessions.putIfAbsent(sessionId, entry);
+        if (existing != null)
+        {
+            return existing;
+        }
+        expiryWheel.schedule(sessionId, entry.nextDeadline(idleTimeoutMillis));
+        return entry;
+    }
+
+    private void expire(String sessionId, SessionEntry entry, Map<Long, List<String>> expiredBySecond)
+    {
+        if (!sessions.remove(sessionId, entry))
+        {
+            return;
+        }
+        // Expired sessions stay unknown until the negative entry lapses, instead of being reloaded per request
+        unknownSessions.put(sessionId, Boolean.TRUE);
+
+        SecurityContext context = entry.getContext();
+        if (context.isActive())
+        {
+            context.setActive(false);
+            long second = Math.floorDiv(entry.getLastAccessedMillis(), 1000L) * 1000L;
+            expiredBySecond.computeIfAbsent(second, s -> new ArrayList<>()).add(sessionId);
+        }
+    }
+
+    // Only active and last_accessed are written, so lock and permission changes made meanwhile are kept
+    private void deactivate(long lastAccessedSecond, List<String> sessionIds)
+    {
+        for (int from = 0; from < sessionIds.size(); from += MAX_IDS_PER_UPDATE)
+        {
+            try
+            {
+                securityContextRepository.deactivateIdleBySessionIds(sessionIds.subList(from, Math.min(sessionIds.size(), from + MAX_IDS_PER_UPDATE)),
+                        SessionEntry.toDateTime(lastAccessedSecond));
+            }
+            catch (Exception e)
+            {
+                // Log error silently; the reaper deactivates idle rows the memory store missed
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.employeeDetails.Session;
+
+import com.example.employeeDetails.Repository.SecurityContextRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Write-back of session last-access times. A session is queued on its first touch after a flush and every
+// later touch only moves the in-memory timestamp, so the database sees at most one write per active session
+// per flush interval. Sessions are grouped by their own last access, truncated to the second, and each group is
+// written with set-based UPDATE ... WHERE session_id IN (...) statements: at most one group per second of the
+// flush interval, and no session is ever stamped later than its real last access.
+@Component
+public class SessionTouchWriter
+{
+
+    // SQL Server accepts at most 2100 parameters per statement
+    private static final int MAX_IDS_PER_UPDATE = 2000;
+
+    private final SecurityContextRepository securityContextRepository;
+    private final int batchSize;
+
+    private final ConcurrentLinkedQueue<SessionEntry> dirtySessions = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter queuedTouches;
+    private final Counter writtenTouches;
+    private final Counter failedTouches;
+
+    public SessionTouchWriter(SecurityContextRepository securityContextRepository, MeterRegistry meterRegistry,
+                              @Value("${security.session.touch-batch-size:2000}") int batchSize)
+    {
+        this.securityContextRepository = securityContextRepository;
+        this.batchSize = Math.max(1, Math.min(batchSize, MAX_IDS_PER_UPDATE));
+        this.queuedTouches = Counter.builder("security.sessions.touches").tag("outcome", "queued").register(meterRegistry);
+        this.writtenTouches = Counter.builder("security.sessions.touches").tag("outcome", "written").register(meterRegistry);
+        this.failedTouches = Counter.builder("security.sessions.touches").tag("outcome", "failed").register(meterRegistry);
+    }
+
+    void touch(SessionEntry entry, long nowMillis)
+    {
+        if (entry.touch(nowMillis))
+        {
+            dirtySessions.offer(entry);
+            queuedTouches.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.session.touch-flush-interval:30s}")
+    public void flush()
+    {
+        if (!flushLock.tryLock())
+        {
+            return;
+        }
+        try
+        {
+            Map<Long, List<String>> sessionIdsBySecond = new HashMap<>();
+            SessionEntry entry;
+            while ((entry = dirtySessions.poll()) != null)
+            {
+                entry.markClean();
+                long second = Math.floorDiv(entry.getLastAccessedMillis(), 1000L) * 1000L;
+                List<String> sessionIds = sessionIdsBySecond.computeIfAbsent(second, s -> new ArrayList<>());
+                sessionIds.add(entry.getContext().getSessionId());
+                if (sessionIds.size() == batchSize)
+                {
+                    write(sessionIds, second);
+                    sessionIdsBySecond.remove(second);
+                }
+            }
+            sessionIdsBySecond.forEach((second, sessionIds) -> write(sessionIds, second));
+        }
+        finally
+        {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown()
+    {
+        flush();
+    }
+
+    // Every session in the statement was last accessed within the same second, starting at accessedAt
+    private void write(List<String> sessionIds, long accessedAt)
+    {
+        try
+        {
+            securityContextRepository.updateLastAccessed(sessionIds, SessionEntry.toDateTime(accessedAt));
+            writtenTouches.increment(sessionIds.size());
+        }
+        catch (Exception e)
+        {
+            // Log error silently; the next touch of these sessions queues them again
+            failedTouches.increment(sessionIds.size());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.employeeDetails.Session;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+// Hierarchical timing wheel: four levels of 64 slots, each level's slot spanning a full turn of the level below.
+// Scheduling is a lock-free enqueue from any thread; a single caller of advance() moves timers into slots,
+// cascades them down as their level comes due, and fires them. Cost per tick is proportional to the timers
+// due, never to the number of timers held.
+public class TimingWheel<T>
+{
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final ArrayDeque<Timer<T>>[][] wheel;
+    private final List<Timer<T>> overflow = new ArrayList<>();
+    private final ConcurrentLinkedQueue<Timer<T>> pending = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock advanceLock = new ReentrantLock();
+    private long currentTick;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TimingWheel(long tickMillis, long startMillis)
+    {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.wheel = new ArrayDeque[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++)
+        {
+            for (int slot = 0; slot < SLOTS; slot++)
+            {
+                wheel[level][slot] = new ArrayDeque<>();
+            }
+        }
+    }
+
+    public void schedule(T item, long deadlineMillis)
+    {
+        pending.offer(new Timer<>(item, deadlineMillis / tickMillis));
+    }
+
+    // Fires every timer due at or before nowMillis; concurrent callers skip rather than wait
+    public void advance(long nowMillis, Consumer<T> onExpired)
+    {
+        if (!advanceLock.tryLock())
+        {
+            return;
+        }
+        try
+        {
+            Timer<T> timer;
+            while ((timer = pending.poll()) != null)
+            {
+                place(timer);
+            }
+
+            long nowTick = nowMillis / tickMillis;
+            while (currentTick <= nowTick)
+            {
+                cascade();
+                ArrayDeque<Timer<T>> due = wheel[0][(int) (currentTick & SLOT_MASK)];
+                while ((timer = due.poll()) != null)
+                {
+                    onExpired.accept(timer.item);
+                }
+                currentTick++;
+            }
+        }
+        finally
+        {
+            advanceLock.unlock();
+        }
+    }
+
+    // At a level boundary, timers in the upper level's current slot are redistributed into finer slots
+    private void cascade()
+    {
+        if ((currentTick & ((1L << (SLOT_BITS * (LEVELS - 1))) - 1)) == 0 && !overflow.isEmpty())
+        {
+            List<Timer<T>> far = new ArrayList<>(overflow);
+            overflow.clear();
+            far.forEach(this::place);
+        }
+        for (int level = LEVELS - 1; level > 0; level--)
+        {
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0)
+            {
+                continue;
+            }
+            // Detach the slot first: a timer a full turn away lands back in the same slot
+            ArrayDeque<Timer<T>> slot = wheel[level][(int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+            List<Timer<T>> timers = new ArrayList<>(slot);
+            slot.clear();
+            timers.forEach(this::place);
+        }
+    }
+
+    private void place(Timer<T> timer)
+    {
+        long deadlineTick = Math.max(timer.deadlineTick, currentTick);
+        long delta = deadlineTick - currentTick;
+        for (int level = 0; level < LEVELS; level++)
+        {
+            if (delta < (1L << (SLOT_BITS * (level + 1))))
+            {
+                wheel[level][(int) ((deadlineTick >>> (SLOT_BITS * level)) & SLOT_MASK)].add(timer);
+                return;
+            }
+        }
+        overflow.add(timer);
+    }
+
+    private record Timer<T>(T item, long deadlineTick)
+    {
+    }
+}
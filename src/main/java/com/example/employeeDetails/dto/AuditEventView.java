@@ -0,0 +1,27 @@
+package com.example.employeeDetails.dto;
+
+import com.example.employeeDetails.Entity.AuditLevel;
+import com.example.employeeDetails.Entity.SecurityLevel;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+// Audit event as returned to clients. The session id, transaction id and IP address are left out:
+// callers record their live session id as the transaction id, so exposing them would hand out bearer sessions.
+// Selected directly by the history queries (AuditLogRepository.AUDIT_EVENT_VIEW); id and timestamp also form the cursor.
+@Value
+public class AuditEventView
+{
+
+    Long id;
+    String employeeId;
+    String action;
+    String details;
+    LocalDateTime timestamp;
+    String userId;
+    String sourceEJB;
+    SecurityLevel securityLevel;
+    boolean complianceRequired;
+    AuditLevel auditLevel;
+    boolean archived;
+}
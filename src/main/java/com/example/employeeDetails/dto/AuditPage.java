@@ -0,0 +1,14 @@
+package com.example.employeeDetails.dto;
+
+import lombok.Value;
+
+import java.util.List;
+
+// One page of audit history, newest first; nextCursor is null on the last page
+@Value
+public class AuditPage
+{
+
+    List<AuditEventView> items;
+    String nextCursor;
+}
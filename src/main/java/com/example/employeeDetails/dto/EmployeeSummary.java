@@ -0,0 +1,21 @@
+package com.example.employeeDetails.dto;
+
+import com.example.employeeDetails.Entity.EmployeeStatus;
+import com.example.employeeDetails.Entity.SecurityLevel;
+import lombok.Value;
+
+// Read model of an employee: the columns the UI and clients show, selected by a constructor expression
+// so no managed entity, dirty-checking snapshot or permission collection is created
+@Value
+public class EmployeeSummary
+{
+
+    String employeeID;
+    String name;
+    String department;
+    String email;
+    String phone;
+    String managerId;
+    EmployeeStatus status;
+    SecurityLevel securityLevel;
+}
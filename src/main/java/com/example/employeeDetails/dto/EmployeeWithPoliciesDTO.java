@@ -1,20 +1,27 @@
 package com.example.employeeDetails.dto;
 
 import com.example.employeeDetails.Entity.AuditLog;
-import com.example.employeeDetails.Entity.Employee;
 import com.example.employeeDetails.Entity.HrPolicy;
 import com.example.employeeDetails.Entity.SecurityContext;
+import com.example.employeeDetails.Entity.SecurityLevel;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+// Sections may be shared, immutable constants (and whole responses are shared through the cache),
+// so the helpers below copy a collection before changing it instead of writing into it.
+// Sections left out by a fields= projection are null and not serialized.
 @Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class EmployeeWithPoliciesDTO {
 
-    private Employee employee;
+    private EmployeeSummary employee;
     private List<HrPolicy> policies;
     private LocalDateTime responseTimestamp = LocalDateTime.now();  // Default to current timestamp
     private boolean cached;
@@ -26,12 +33,12 @@ public class EmployeeWithPoliciesDTO {
     private CrossReferenceData crossReferences;
     private ResponseMetadata metadata;
     private List<ValidationError> validationErrors;
-    private Map<String, Object> dynamicFields = new HashMap<>();  // Initialize the dynamic fields map
+    private Map<String, Object> dynamicFields = Map.of();
 
     @Data
     public static class SecurityValidationResult {
         private boolean isAuthorized;
-        private String securityLevel;
+        private SecurityLevel securityLevel;
         private List<String> permissions;
         private SecurityContext context;
         private Map<String, Boolean> accessRights;
@@ -56,12 +63,21 @@ public class EmployeeWithPoliciesDTO {
         private Map<String, LocalDateTime> timestamps;
         private List<String> operations;
         private String transactionId;
-        private Map<String, String> contextData;
+        private ContextData contextData;
+    }
+
+    // Serialized under the same keys as the map it replaces
+    public record ContextData(@JsonProperty("SESSION_ID") String sessionId,
+                              @JsonProperty("EMPLOYEE_ID") String employeeId,
+                              @JsonProperty("DEPARTMENT") String department,
+                              @JsonProperty("SECURITY_LEVEL") String securityLevel,
+                              @JsonProperty("POLICY_COUNT") String policyCount) {
     }
 
     @Data
     public static class CrossReferenceData {
-        private Map<String, Employee> relatedEmployees;
+        private Map<String, EmployeeSummary> relatedEmployees;
+        private Map<String, String> relations;  // employee id -> MANAGER or DIRECT_REPORT, for relatedEmployees
         private Map<String, List<HrPolicy>> departmentPolicies;
         private Map<String, Object> externalData;
         private List<String> dependencies;
@@ -78,38 +94,29 @@ public class EmployeeWithPoliciesDTO {
         private List<String> transformations;
     }
 
-    @Data
-    public static class ValidationError {
-        private String field;
-        private String message;
-        private String severity;
-        private String source;
+    public record ValidationError(String field, String message, String severity, String source) {
     }
 
     // Helper methods for complex operations
     public void addDynamicField(String key, Object value) {
-        this.dynamicFields.put(key, value);
+        Map<String, Object> fields = new HashMap<>(this.dynamicFields);
+        fields.put(key, value);
+        this.dynamicFields = fields;
     }
 
     public void addValidationError(String field, String message, String severity, String source) {
         if (this.validationErrors == null) {
-            this.validationErrors = new java.util.ArrayList<>();
+            this.validationErrors = new ArrayList<>(3);
         }
-        ValidationError error = new ValidationError();
-        error.setField(field);
-        error.setMessage(message);
-        error.setSeverity(severity);
-        error.setSource(source);
-        this.validationErrors.add(error);
+        this.validationErrors.add(new ValidationError(field, message, severity, source));
     }
 
     public void addTransformation(String transformation) {
         if (this.metadata == null) {
             this.metadata = new ResponseMetadata();
         }
-        if (this.metadata.getTransformations() == null) {
-            this.metadata.setTransformations(new java.util.ArrayList<>());
-        }
-        this.metadata.getTransformations().add(transformation);
+        List<String> transformations = this.metadata.getTransformations() != null ? new ArrayList<>(this.metadata.getTransformations()) : new ArrayList<>();
+        transformations.add(transformation);
+        this.metadata.setTransformations(transformations);
     }
 }
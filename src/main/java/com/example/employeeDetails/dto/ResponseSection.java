@@ -0,0 +1,90 @@
+package com.example.employeeDetails.dto;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+// Top-level sections of EmployeeWithPoliciesDTO a client can ask for with fields=, named as in the JSON.
+// Sections that are not requested are neither built nor serialized.
+public enum ResponseSection
+{
+    EMPLOYEE("employee"),
+    POLICIES("policies"),
+    SECURITY_VALIDATION("securityValidation"),
+    BUSINESS_RULE_VALIDATION("businessRuleValidation"),
+    AUDIT_TRAIL("auditTrail"),
+    CROSS_REFERENCES("crossReferences"),
+    METADATA("metadata"),
+    VALIDATION_ERRORS("validationErrors"),
+    DYNAMIC_FIELDS("dynamicFields");
+
+    public static final Set<ResponseSection> ALL = Set.copyOf(EnumSet.allOf(ResponseSection.class));
+
+    // Sections whose content depends on the department's policies; without any of them the policy lookup is skipped
+    private static final Set<ResponseSection> POLICY_DEPENDENT = EnumSet.of(POLICIES, SECURITY_VALIDATION, BUSINESS_RULE_VALIDATION, AUDIT_TRAIL, VALIDATION_ERRORS);
+
+    private final String fieldName;
+
+    ResponseSection(String fieldName)
+    {
+        this.fieldName = fieldName;
+    }
+
+    public String getFieldName()
+    {
+        return fieldName;
+    }
+
+    // Comma-separated JSON field names; missing or blank means the full response. The employee is always included.
+    public static Set<ResponseSection> parse(String fields)
+    {
+        if (fields == null || fields.isBlank())
+        {
+            return ALL;
+        }
+        EnumSet<ResponseSection> sections = EnumSet.of(EMPLOYEE);
+        for (String field : fields.split(","))
+        {
+            String name = field.trim();
+            if (!name.isEmpty())
+            {
+                sections.add(fromFieldName(name));
+            }
+        }
+        return sections;
+    }
+
+    public static int mask(Set<ResponseSection> sections)
+    {
+        int mask = 0;
+        for (ResponseSection section : sections)
+        {
+            mask |= 1 << section.ordinal();
+        }
+        return mask;
+    }
+
+    public static boolean needsPolicies(Set<ResponseSection> sections)
+    {
+        for (ResponseSection section : sections)
+        {
+            if (POLICY_DEPENDENT.contains(section))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ResponseSection fromFieldName(String name)
+    {
+        for (ResponseSection section : values())
+        {
+            if (section.fieldName.equalsIgnoreCase(name) || section.name().equals(name.toUpperCase(Locale.ROOT)))
+            {
+                return section;
+            }
+        }
+        throw new IllegalArgumentException("Unknown response field: " + name);
+    }
+}
@@ -0,0 +1,16 @@
+-- Seek indexes for the audit history API. Each page is a range scan on (filter, timestamp DESC, id DESC)
+-- starting just past the cursor, so latency does not grow with depth. The time-range listing uses the
+-- clustered (timestamp, id) index from audit-logs-month-partitioning.sql.
+-- The page queries select exactly the AuditEventView columns (AuditLogRepository.AUDIT_EVENT_VIEW). Both
+-- filtered indexes INCLUDE every one of them that is not already a key, so a page never looks up the base row.
+-- Keep the INCLUDE lists in step with AuditEventView; session_id, transaction_id and ip_address are never read.
+
+CREATE INDEX ix_audit_logs_action_timestamp ON audit_logs (action, timestamp DESC, id DESC)
+    INCLUDE (employee_id, details, user_id, source_ejb, security_level, compliance_required, audit_level, archived)
+    ON ps_audit_logs_month (timestamp);
+
+-- Created without INCLUDE by audit-logs-month-partitioning.sql; rebuilt here to cover employee history
+CREATE INDEX ix_audit_logs_employee_timestamp ON audit_logs (employee_id, timestamp DESC, id DESC)
+    INCLUDE (action, details, user_id, source_ejb, security_level, compliance_required, audit_level, archived)
+    WITH (DROP_EXISTING = ON)
+    ON ps_audit_logs_month (timestamp);
@@ -0,0 +1,31 @@
+-- Month partitioning for audit_logs. Range queries on timestamp touch only the partitions they cover, and the
+-- archiver's cold-window scan never reads the hot months. Run after audit-logs-sequence-ids.sql.
+-- The clustered index and every other index are aligned on the partition scheme, so old months can later be
+-- switched out instead of deleted row by row.
+
+CREATE PARTITION FUNCTION pf_audit_logs_month (DATETIME2)
+AS RANGE RIGHT FOR VALUES ('2025-01-01', '2025-02-01', '2025-03-01', '2025-04-01', '2025-05-01', '2025-06-01',
+                           '2025-07-01', '2025-08-01', '2025-09-01', '2025-10-01', '2025-11-01', '2025-12-01',
+                           '2026-01-01', '2026-02-01', '2026-03-01', '2026-04-01', '2026-05-01', '2026-06-01',
+                           '2026-07-01', '2026-08-01', '2026-09-01', '2026-10-01', '2026-11-01', '2026-12-01');
+
+CREATE PARTITION SCHEME ps_audit_logs_month
+AS PARTITION pf_audit_logs_month ALL TO ([PRIMARY]);
+GO
+
+-- The primary key must include the partitioning column to be aligned
+DECLARE @pk SYSNAME = (SELECT name FROM sys.key_constraints WHERE parent_object_id = OBJECT_ID('audit_logs') AND type = 'PK');
+EXEC ('ALTER TABLE audit_logs DROP CONSTRAINT ' + @pk);
+GO
+
+CREATE CLUSTERED INDEX cx_audit_logs_timestamp_id ON audit_logs (timestamp, id) ON ps_audit_logs_month (timestamp);
+ALTER TABLE audit_logs ADD CONSTRAINT pk_audit_logs PRIMARY KEY NONCLUSTERED (id, timestamp) ON ps_audit_logs_month (timestamp);
+
+CREATE INDEX ix_audit_logs_employee_timestamp ON audit_logs (employee_id, timestamp DESC, id DESC) ON ps_audit_logs_month (timestamp);
+CREATE INDEX ix_audit_logs_archived ON audit_logs (archived, archive_date) ON ps_audit_logs_month (timestamp);
+GO
+
+-- New boundaries are added by AuditPartitionMaintainer, which keeps audit.partitions.months-ahead months
+-- split off ahead of the clock (NEXT USED, then SPLIT RANGE on the empty tail partition).
+-- Once every row of the oldest month is archived and purged, merge its now empty boundary by hand:
+--   ALTER PARTITION FUNCTION pf_audit_logs_month() MERGE RANGE ('<oldest boundary>');
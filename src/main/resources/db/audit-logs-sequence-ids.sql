@@ -0,0 +1,46 @@
+-- audit_logs ids move from IDENTITY to a sequence so Hibernate can batch inserts.
+-- SQL Server cannot drop the IDENTITY property in place, so the table is rebuilt.
+-- INCREMENT BY must match allocationSize on AuditLog.id.
+-- Hibernate's default (pooled) optimizer treats each fetched value as the top of its block, handing out
+-- value - 99 .. value. The sequence therefore starts 100 above the current maximum, so the first block
+-- is MAX(id) + 1 .. MAX(id) + 100 and never reuses an existing id.
+
+BEGIN TRANSACTION;
+
+CREATE TABLE audit_logs_new (
+    id                  BIGINT         NOT NULL PRIMARY KEY,
+    employee_id         VARCHAR(255)   NOT NULL,
+    action              VARCHAR(255)   NOT NULL,
+    details             VARCHAR(1000)  NULL,
+    timestamp           DATETIME2      NOT NULL,
+    user_id             VARCHAR(255)   NULL,
+    session_id          VARCHAR(255)   NULL,
+    ip_address          VARCHAR(255)   NULL,
+    source_ejb          VARCHAR(255)   NULL,
+    transaction_id      VARCHAR(255)   NULL,
+    security_level      VARCHAR(255)   NULL,
+    compliance_required BIT            NOT NULL DEFAULT 0,
+    audit_level         VARCHAR(255)   NULL,
+    encrypted_data      BIT            NOT NULL DEFAULT 0,
+    retention_days      INT            NULL,
+    archived            BIT            NOT NULL DEFAULT 0,
+    archive_date        DATETIME2      NULL
+);
+
+INSERT INTO audit_logs_new (id, employee_id, action, details, timestamp, user_id, session_id, ip_address, source_ejb,
+                            transaction_id, security_level, compliance_required, audit_level, encrypted_data,
+                            retention_days, archived, archive_date)
+SELECT id, employee_id, action, details, timestamp, user_id, session_id, ip_address, source_ejb,
+       transaction_id, security_level, compliance_required, audit_level, encrypted_data,
+       retention_days, archived, archive_date
+FROM audit_logs WITH (TABLOCKX);
+
+EXEC sp_rename 'audit_logs', 'audit_logs_identity';
+EXEC sp_rename 'audit_logs_new', 'audit_logs';
+
+DECLARE @next BIGINT = (SELECT ISNULL(MAX(id), 0) + 100 FROM audit_logs);
+EXEC ('CREATE SEQUENCE audit_logs_seq AS BIGINT START WITH ' + CAST(@next AS VARCHAR(20)) + ' INCREMENT BY 100');
+
+COMMIT;
+
+-- Once verified: DROP TABLE audit_logs_identity;
@@ -0,0 +1,11 @@
+-- Hourly audit event counts written by AuditRollups. One row per (action, dimension, value, hour);
+-- dashboard queries seek on the primary key and read one row per bucket.
+
+CREATE TABLE audit_rollups (
+    action          VARCHAR(255)  NOT NULL,
+    dimension       VARCHAR(32)   NOT NULL,
+    dimension_value VARCHAR(255)  NOT NULL,
+    bucket_start    DATETIME2     NOT NULL,
+    event_count     BIGINT        NOT NULL,
+    CONSTRAINT pk_audit_rollups PRIMARY KEY (action, dimension, dimension_value, bucket_start)
+);
@@ -0,0 +1,6 @@
+-- Keyset listings seek on (filter column, employeeID) and read the projected columns from the index,
+-- so each page is a range scan without key lookups into the clustered index.
+
+CREATE INDEX ix_employees_department_id ON employees (department, employeeID) INCLUDE (name, email, phone, manager_id, status, security_level);
+CREATE INDEX ix_employees_status_id ON employees (status, employeeID) INCLUDE (name, department, email, phone, manager_id, security_level);
+CREATE INDEX ix_employees_manager_id ON employees (manager_id, employeeID) INCLUDE (name, department, email, phone, status, security_level);
@@ -0,0 +1,53 @@
+-- Enum-backed columns are read through LenientEnumConverter. Run this before deploying that change:
+-- step 1 lists every stored value outside the application's constant sets, step 2 normalises them.
+-- Review step 1's output first; a value that is a real new state needs a new enum constant, not a fallback.
+--
+--   employees.status                   ACTIVE, INACTIVE, ON_LEAVE, TERMINATED   fallback INACTIVE
+--   employees.security_level           BASIC, MANAGER, ADMIN                    fallback ADMIN
+--   security_contexts.security_level   BASIC, MANAGER, ADMIN                    fallback BASIC
+--   security_contexts.compliance_level BASIC, STANDARD, ENHANCED, STRICT        fallback STRICT
+--   audit_logs.security_level          BASIC, MANAGER, ADMIN                    fallback ADMIN
+--   audit_logs.audit_level             BASIC, DETAILED, FULL                    fallback FULL
+
+-- Step 1: check. Every row returned is a value the application does not know (case and padding ignored).
+SELECT 'employees.status' AS column_name, status AS stored_value, COUNT(*) AS row_count
+FROM employees WHERE UPPER(LTRIM(RTRIM(status))) NOT IN ('ACTIVE', 'INACTIVE', 'ON_LEAVE', 'TERMINATED') GROUP BY status
+UNION ALL
+SELECT 'employees.security_level', security_level, COUNT(*)
+FROM employees WHERE UPPER(LTRIM(RTRIM(security_level))) NOT IN ('BASIC', 'MANAGER', 'ADMIN') GROUP BY security_level
+UNION ALL
+SELECT 'security_contexts.security_level', security_level, COUNT(*)
+FROM security_contexts WHERE UPPER(LTRIM(RTRIM(security_level))) NOT IN ('BASIC', 'MANAGER', 'ADMIN') GROUP BY security_level
+UNION ALL
+SELECT 'security_contexts.compliance_level', compliance_level, COUNT(*)
+FROM security_contexts WHERE UPPER(LTRIM(RTRIM(compliance_level))) NOT IN ('BASIC', 'STANDARD', 'ENHANCED', 'STRICT') GROUP BY compliance_level
+UNION ALL
+SELECT 'audit_logs.security_level', security_level, COUNT(*)
+FROM audit_logs WHERE UPPER(LTRIM(RTRIM(security_level))) NOT IN ('BASIC', 'MANAGER', 'ADMIN') GROUP BY security_level
+UNION ALL
+SELECT 'audit_logs.audit_level', audit_level, COUNT(*)
+FROM audit_logs WHERE UPPER(LTRIM(RTRIM(audit_level))) NOT IN ('BASIC', 'DETAILED', 'FULL') GROUP BY audit_level;
+
+-- Step 2: normalise case and padding, then map what is still unknown to the converter's fallback.
+-- NULLs are left alone. audit_logs is large: run its updates in a maintenance window.
+BEGIN TRANSACTION;
+
+UPDATE employees SET status = UPPER(LTRIM(RTRIM(status))) WHERE status <> UPPER(LTRIM(RTRIM(status))) COLLATE Latin1_General_CS_AS;
+UPDATE employees SET status = 'INACTIVE' WHERE status NOT IN ('ACTIVE', 'INACTIVE', 'ON_LEAVE', 'TERMINATED');
+
+UPDATE employees SET security_level = UPPER(LTRIM(RTRIM(security_level))) WHERE security_level <> UPPER(LTRIM(RTRIM(security_level))) COLLATE Latin1_General_CS_AS;
+UPDATE employees SET security_level = 'ADMIN' WHERE security_level NOT IN ('BASIC', 'MANAGER', 'ADMIN');
+
+UPDATE security_contexts SET security_level = UPPER(LTRIM(RTRIM(security_level))) WHERE security_level <> UPPER(LTRIM(RTRIM(security_level))) COLLATE Latin1_General_CS_AS;
+UPDATE security_contexts SET security_level = 'BASIC' WHERE security_level NOT IN ('BASIC', 'MANAGER', 'ADMIN');
+
+UPDATE security_contexts SET compliance_level = UPPER(LTRIM(RTRIM(compliance_level))) WHERE compliance_level <> UPPER(LTRIM(RTRIM(compliance_level))) COLLATE Latin1_General_CS_AS;
+UPDATE security_contexts SET compliance_level = 'STRICT' WHERE compliance_level NOT IN ('BASIC', 'STANDARD', 'ENHANCED', 'STRICT');
+
+UPDATE audit_logs SET security_level = UPPER(LTRIM(RTRIM(security_level))) WHERE security_level <> UPPER(LTRIM(RTRIM(security_level))) COLLATE Latin1_General_CS_AS;
+UPDATE audit_logs SET security_level = 'ADMIN' WHERE security_level NOT IN ('BASIC', 'MANAGER', 'ADMIN');
+
+UPDATE audit_logs SET audit_level = UPPER(LTRIM(RTRIM(audit_level))) WHERE audit_level <> UPPER(LTRIM(RTRIM(audit_level))) COLLATE Latin1_General_CS_AS;
+UPDATE audit_logs SET audit_level = 'FULL' WHERE audit_level NOT IN ('BASIC', 'DETAILED', 'FULL');
+
+COMMIT TRANSACTION;
@@ -0,0 +1,19 @@
+-- Permissions and roles move from the security_permissions / security_roles element-collection tables
+-- into one comma-separated column each on security_contexts, so a session loads in a single query.
+-- Names must not contain commas.
+-- There is no limit on distinct names: the application interns them into bit sets that grow past 64 names.
+
+BEGIN TRANSACTION;
+
+ALTER TABLE security_contexts ADD permissions VARCHAR(512) NULL, roles VARCHAR(512) NULL;
+GO
+
+UPDATE c
+SET permissions = (SELECT STRING_AGG(p.permission, ',') FROM security_permissions p WHERE p.security_context_id = c.id),
+    roles       = (SELECT STRING_AGG(r.role, ',') FROM security_roles r WHERE r.security_context_id = c.id)
+FROM security_contexts c;
+
+DROP TABLE security_permissions;
+DROP TABLE security_roles;
+
+COMMIT TRANSACTION;
@@ -0,0 +1,6 @@
+-- Supports the chunked purge of stale security contexts: the id scan seeks on (user_id, last_accessed)
+-- and the attribute deletes seek on the foreign key instead of scanning the child tables.
+
+CREATE INDEX ix_security_contexts_user_last_accessed ON security_contexts (user_id, last_accessed) INCLUDE (id);
+
+CREATE INDEX ix_security_attributes_context ON security_attributes (security_context_id);
@@ -0,0 +1,70 @@
+package com.example.employeeDetails.Audit;
+
+import com.example.employeeDetails.Entity.AuditLevel;
+import com.example.employeeDetails.Entity.AuditLog;
+import com.example.employeeDetails.Entity.SecurityLevel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditArchiveFormatTest
+{
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackEveryColumnWritten() throws IOException
+    {
+        List<AuditLog> rows = new ArrayList<>();
+        for (int i = 0; i < 50; i++)
+        {
+            AuditLog row = new AuditLog();
+            row.setId(1000L + i);
+            row.setTimestamp(LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(i).withNano(i * 1000));
+            row.setEmployeeId("EMP" + (i % 3));
+            row.setAction(i % 2 == 0 ? "EMPLOYEE_ACCESS" : "EMPLOYEE_UPDATED");
+            row.setDetails(i % 5 == 0 ? null : "details " + i);
+            row.setUserId("user" + i);
+            row.setSessionId("session" + i);
+            row.setIpAddress(i % 7 == 0 ? null : "10.0.0." + i);
+            row.setSourceEJB("EmployeeDetailsService");
+            row.setTransactionId("tx" + i);
+            row.setSecurityLevel(i % 4 == 0 ? null : SecurityLevel.values()[i % SecurityLevel.values().length]);
+            row.setAuditLevel(AuditLevel.values()[i % AuditLevel.values().length]);
+            row.setComplianceRequired(i % 2 == 0);
+            row.setEncryptedData(i % 3 == 0);
+            row.setRetentionDays(i % 6 == 0 ? null : 365 + i);
+            rows.add(row);
+        }
+        Path file = directory.resolve("audit.colgz");
+        AuditArchiveFormat.write(file, rows);
+
+        List<AuditLog> read = AuditArchiveFormat.read(file);
+
+        assertThat(read).hasSize(rows.size());
+        assertThat(read).allMatch(AuditLog::isArchived);
+        assertThat(read).usingRecursiveFieldByFieldElementComparatorIgnoringFields("archived", "archiveDate").isEqualTo(rows);
+    }
+
+    @Test
+    void rejectsFilesThatAreNotArchives() throws IOException
+    {
+        Path file = directory.resolve("other.colgz");
+        try (GZIPOutputStream out = new GZIPOutputStream(Files.newOutputStream(file)))
+        {
+            out.write(new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        }
+        assertThatThrownBy(() -> AuditArchiveFormat.read(file)).isInstanceOf(IOException.class).hasMessageStartingWith("Not an audit archive");
+    }
+}
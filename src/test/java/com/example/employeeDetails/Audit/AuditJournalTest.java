@@ -0,0 +1,250 @@
+package com.example.employeeDetails.Audit;
+
+import com.example.employeeDetails.Entity.AuditLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditJournalTest
+{
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    private final List<AuditJournal> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeJournals()
+    {
+        opened.forEach(AuditJournal::close);
+    }
+
+    @Test
+    void appendedRecordsAreReadBackInOrderAndBecomeDurable() throws IOException
+    {
+        AuditJournal journal = open();
+        long end = 0;
+        for (int i = 0; i < 10; i++)
+        {
+            end = journal.append(event(i));
+        }
+        assertThat(journal.awaitDurable(end)).isTrue();
+
+        List<AuditLog> read = new ArrayList<>();
+        long next = journal.read(0, read, 4, failOnUndecodable());
+        assertThat(read).extracting(AuditLog::getDetails).containsExactly("0", "1", "2", "3");
+
+        long last = journal.read(next, read, 100, failOnUndecodable());
+        assertThat(read).extracting(AuditLog::getDetails).containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+        assertThat(last).isEqualTo(end);
+    }
+
+    @Test
+    void reopeningRecoversRecordsAfterTheCheckpoint() throws IOException
+    {
+        AuditJournal journal = open();
+        journal.append(event(0));
+        long afterFirst = journal.append(event(1));
+        journal.append(event(2));
+        journal.checkpoint(afterFirst);
+        journal.close();
+        opened.remove(journal);
+
+        AuditJournal reopened = open();
+        assertThat(reopened.checkpointPosition()).isEqualTo(afterFirst);
+        List<AuditLog> read = new ArrayList<>();
+        reopened.read(reopened.checkpointPosition(), read, 100, failOnUndecodable());
+        assertThat(read).extracting(AuditLog::getDetails).containsExactly("2");
+
+        // New appends continue after the recovered records instead of overwriting them
+        reopened.append(event(3));
+        read.clear();
+        reopened.read(afterFirst, read, 100, failOnUndecodable());
+        assertThat(read).extracting(AuditLog::getDetails).containsExactly("2", "3");
+    }
+
+    @Test
+    void recoveryTruncatesAtARecordWithABadChecksum() throws IOException
+    {
+        AuditJournal journal = open();
+        long afterFirst = journal.append(event(0));
+        journal.append(event(1));
+        journal.append(event(2));
+        journal.close();
+        opened.remove(journal);
+
+        // Flip the checksum of the second record, as a torn write would leave it
+        Path segment = onlySegment();
+        int crcOffset = AuditJournal.offsetOf(afterFirst) + 4;
+        int crc = readInt(segment, crcOffset);
+        writeInt(segment, crcOffset, ~crc);
+
+        AuditJournal reopened = open();
+        List<AuditLog> read = new ArrayList<>();
+        reopened.read(0, read, 100, failOnUndecodable());
+        assertThat(read).extracting(AuditLog::getDetails).containsExactly("0");
+
+        long end = reopened.append(event(3));
+        assertThat(end).isGreaterThan(afterFirst);
+        read.clear();
+        reopened.read(0, read, 100, failOnUndecodable());
+        assertThat(read).extracting(AuditLog::getDetails).containsExactly("0", "3");
+    }
+
+    @Test
+    void recoveryTruncatesAtARecordWithAnImpossibleLength() throws IOException
+    {
+        AuditJournal journal = open();
+        long afterFirst = journal.append(event(0));
+        journal.append(event(1));
+        journal.close();
+        opened.remove(journal);
+
+        writeInt(onlySegment(), AuditJournal.offsetOf(afterFirst), SEGMENT_SIZE);
+
+        AuditJournal reopened = open();
+        List<AuditLog> read = new ArrayList<>();
+        long end = reopened.read(0, read, 100, failOnUndecodable());
+        assertThat(read).extracting(AuditLog::getDetails).containsExactly("0");
+        assertThat(end).isEqualTo(afterFirst);
+    }
+
+    @Test
+    void undecodableRecordsAreReportedAndSkipped() throws IOException
+    {
+        AuditJournal journal = open();
+        long afterFirst = journal.append(event(0));
+        journal.close();
+        opened.remove(journal);
+
+        // A checksummed record in a format version this build does not know
+        byte[] payload = {99, 1, 2, 3};
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        Path segment = onlySegment();
+        int offset = AuditJournal.offsetOf(afterFirst);
+        writeInt(segment, offset + 4, (int) crc.getValue());
+        write(segment, offset + 8, ByteBuffer.wrap(payload));
+        writeInt(segment, offset, payload.length);
+
+        AuditJournal reopened = open();
+        reopened.append(event(2));
+
+        List<AuditLog> read = new ArrayList<>();
+        List<byte[]> undecodable = new ArrayList<>();
+        reopened.read(0, read, 100, (bytes, e) -> undecodable.add(bytes));
+        assertThat(read).extracting(AuditLog::getDetails).containsExactly("0", "2");
+        assertThat(undecodable).singleElement().isEqualTo(payload);
+    }
+
+    @Test
+    void rotatesSegmentsAndDropsThemOnceCheckpointed() throws IOException
+    {
+        AuditJournal journal = open();
+        List<Long> ends = new ArrayList<>();
+        for (int i = 0; i < 300; i++)
+        {
+            ends.add(journal.append(event(i)));
+        }
+        long lastSegment = AuditJournal.segmentOf(ends.get(ends.size() - 1));
+        assertThat(lastSegment).isGreaterThanOrEqualTo(2);
+        assertThat(segmentFiles()).hasSize((int) lastSegment + 1);
+
+        List<AuditLog> read = new ArrayList<>();
+        journal.read(0, read, 1000, failOnUndecodable());
+        assertThat(read).hasSize(300);
+        for (int i = 0; i < read.size(); i++)
+        {
+            assertThat(read.get(i).getDetails()).isEqualTo(String.valueOf(i));
+        }
+
+        // Checkpointing into the last segment releases every sealed segment before it
+        long checkpoint = ends.stream().filter(end -> AuditJournal.segmentOf(end) == lastSegment).findFirst().orElseThrow();
+        journal.checkpoint(checkpoint);
+        assertThat(segmentFiles()).hasSize(1);
+
+        read.clear();
+        journal.read(checkpoint, read, 1000, failOnUndecodable());
+        assertThat(read).last().extracting(AuditLog::getDetails).isEqualTo("299");
+    }
+
+    private AuditJournal open() throws IOException
+    {
+        AuditJournal journal = new AuditJournal(new SimpleMeterRegistry(), directory, SEGMENT_SIZE, Duration.ofMillis(1), Duration.ofSeconds(2));
+        journal.open();
+        opened.add(journal);
+        return journal;
+    }
+
+    private Path onlySegment() throws IOException
+    {
+        List<Path> files = segmentFiles();
+        assertThat(files).hasSize(1);
+        return files.get(0);
+    }
+
+    private List<Path> segmentFiles() throws IOException
+    {
+        try (Stream<Path> files = Files.list(directory))
+        {
+            return files.filter(file -> file.getFileName().toString().startsWith("segment-")).sorted().toList();
+        }
+    }
+
+    private static int readInt(Path file, int offset) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(buffer, offset);
+            return buffer.getInt(0);
+        }
+    }
+
+    private static void writeInt(Path file, int offset, int value) throws IOException
+    {
+        write(file, offset, ByteBuffer.allocate(Integer.BYTES).putInt(0, value));
+    }
+
+    private static void write(Path file, int offset, ByteBuffer bytes) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE))
+        {
+            channel.write(bytes, offset);
+        }
+    }
+
+    private static BiConsumer<byte[], RuntimeException> failOnUndecodable()
+    {
+        return (bytes, e) -> {
+            throw new AssertionError("Unexpected undecodable record", e);
+        };
+    }
+
+    private static AuditLog event(int sequence)
+    {
+        AuditLog event = new AuditLog();
+        event.setEmployeeId("EMP" + sequence);
+        event.setAction("VIEW");
+        event.setDetails(String.valueOf(sequence));
+        return event;
+    }
+}
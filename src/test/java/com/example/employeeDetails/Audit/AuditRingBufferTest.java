@@ -0,0 +1,138 @@
+package com.example.employeeDetails.Audit;
+
+import com.example.employeeDetails.Entity.AuditLog;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditRingBufferTest
+{
+
+    @Test
+    void capacityIsRoundedUpToAPowerOfTwo()
+    {
+        assertThat(new AuditRingBuffer(100).capacity()).isEqualTo(128);
+        assertThat(new AuditRingBuffer(128).capacity()).isEqualTo(128);
+        assertThat(new AuditRingBuffer(1).capacity()).isEqualTo(4);
+    }
+
+    @Test
+    void rejectsOffersWhenFullAndAcceptsAgainAfterDrain()
+    {
+        AuditRingBuffer buffer = new AuditRingBuffer(4);
+        for (int i = 0; i < 4; i++)
+        {
+            assertThat(buffer.offer(event("p", i))).isTrue();
+        }
+        assertThat(buffer.offer(event("p", 4))).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        List<AuditLog> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 2)).isEqualTo(2);
+        assertThat(buffer.offer(event("p", 4))).isTrue();
+        assertThat(buffer.offer(event("p", 5))).isTrue();
+        assertThat(buffer.offer(event("p", 6))).isFalse();
+
+        assertThat(buffer.drainTo(drained, 10)).isEqualTo(4);
+        assertThat(drained).extracting(AuditLog::getDetails).containsExactly("0", "1", "2", "3", "4", "5");
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void wrapsAroundManyTimesInFifoOrder()
+    {
+        AuditRingBuffer buffer = new AuditRingBuffer(8);
+        List<AuditLog> drained = new ArrayList<>();
+        int next = 0;
+        for (int round = 0; round < 100; round++)
+        {
+            for (int i = 0; i < 5; i++)
+            {
+                assertThat(buffer.offer(event("p", next++))).isTrue();
+            }
+            buffer.drainTo(drained, 5);
+        }
+        assertThat(drained).hasSize(500);
+        for (int i = 0; i < drained.size(); i++)
+        {
+            assertThat(drained.get(i).getDetails()).isEqualTo(String.valueOf(i));
+        }
+    }
+
+    @Test
+    void concurrentProducersLoseNothingAndKeepPerProducerOrder() throws Exception
+    {
+        int producers = 4;
+        int perProducer = 20_000;
+        AuditRingBuffer buffer = new AuditRingBuffer(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++)
+            {
+                String producer = "p" + p;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++)
+                    {
+                        AuditLog event = event(producer, i);
+                        while (!buffer.offer(event))
+                        {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            List<AuditLog> drained = new ArrayList<>(producers * perProducer);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (drained.size() < producers * perProducer && System.nanoTime() < deadline)
+            {
+                if (buffer.drainTo(drained, 256) == 0)
+                {
+                    Thread.onSpinWait();
+                }
+            }
+            for (Future<?> future : futures)
+            {
+                future.get(5, TimeUnit.SECONDS);
+            }
+
+            assertThat(drained).hasSize(producers * perProducer);
+            Map<String, Integer> lastSeen = new HashMap<>();
+            for (AuditLog event : drained)
+            {
+                int sequence = Integer.parseInt(event.getDetails());
+                int previous = lastSeen.getOrDefault(event.getEmployeeId(), -1);
+                assertThat(sequence).isEqualTo(previous + 1);
+                lastSeen.put(event.getEmployeeId(), sequence);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private static AuditLog event(String producer, int sequence)
+    {
+        AuditLog event = new AuditLog();
+        event.setEmployeeId(producer);
+        event.setDetails(String.valueOf(sequence));
+        return event;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.employeeDetails.Cache;
+
+import com.example.employeeDetails.Entity.SecurityLevel;
+import com.example.employeeDetails.dto.EmployeeWithPoliciesDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Write-path latency (put one variant, then invalidate the employee) against a cache already holding 1k..1M entries,
+// for the indexed CaffeineResponseCache and for the former string-keyed cache whose invalidation scanned every key
+// for the "<employeeId>_" prefix. Run with: mvn test -Pbenchmarks -Dtest=CaffeineResponseCacheBenchmark
+class CaffeineResponseCacheBenchmark
+{
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000, 1_000_000};
+    private static final int VARIANTS = 2;
+    private static final int WARMUP_OPS = 20_000;
+    private static final EmployeeWithPoliciesDTO RESPONSE = new EmployeeWithPoliciesDTO();
+
+    @Test
+    void writePathLatencyStaysFlatAsTheCacheGrows()
+    {
+        System.out.printf("%-10s %14s %14s %14s %14s%n", "entries", "indexed p50", "indexed p99", "scan p50", "scan p99");
+        long[] smallest = null;
+        long[] largest = null;
+        for (int size : SIZES)
+        {
+            long[] indexed = indexed(size, 50_000);
+            // The scan is O(entries) per invalidation, so fewer samples keep the 1M run to a few seconds
+            long[] scan = prefixScan(size, Math.max(20, 20_000_000 / size));
+            System.out.printf("%-10d %11d ns %11d ns %11d ns %11d ns%n", size,
+                    percentile(indexed, 50), percentile(indexed, 99), percentile(scan, 50), percentile(scan, 99));
+            smallest = smallest == null ? indexed : smallest;
+            largest = indexed;
+        }
+
+        // Generous bound: GC and JIT noise on a shared runner, but nowhere near the 1000x growth of a full scan
+        assertThat(percentile(largest, 50)).isLessThan(20 * Math.max(percentile(smallest, 50), 1_000));
+    }
+
+    private static long[] indexed(int size, int ops)
+    {
+        CaffeineResponseCache cache = new CaffeineResponseCache(2L * size, Duration.ofHours(1), new SimpleMeterRegistry(), "bench");
+        int employees = size / VARIANTS;
+        for (int e = 0; e < employees; e++)
+        {
+            for (int v = 0; v < VARIANTS; v++)
+            {
+                cache.put(new ResponseCacheKey(employeeId(e), SecurityLevel.values()[v], 1), RESPONSE);
+            }
+        }
+
+        long[] samples = new long[ops];
+        for (int i = -WARMUP_OPS; i < ops; i++)
+        {
+            String employeeId = employeeId(ThreadLocalRandom.current().nextInt(employees));
+            long start = System.nanoTime();
+            cache.put(new ResponseCacheKey(employeeId, SecurityLevel.BASIC, 1), RESPONSE);
+            cache.invalidateEmployee(employeeId);
+            long elapsed = System.nanoTime() - start;
+            if (i >= 0)
+            {
+                samples[i] = elapsed;
+            }
+            // Restore both variants so the cache stays at its nominal size
+            cache.put(new ResponseCacheKey(employeeId, SecurityLevel.BASIC, 1), RESPONSE);
+            cache.put(new ResponseCacheKey(employeeId, SecurityLevel.MANAGER, 1), RESPONSE);
+        }
+        return samples;
+    }
+
+    private static long[] prefixScan(int size, int ops)
+    {
+        Cache<String, EmployeeWithPoliciesDTO> cache = Caffeine.newBuilder().maximumSize(2L * size).expireAfterWrite(Duration.ofHours(1)).build();
+        int employees = size / VARIANTS;
+        for (int e = 0; e < employees; e++)
+        {
+            for (int v = 0; v < VARIANTS; v++)
+            {
+                cache.put(employeeId(e) + "_" + SecurityLevel.values()[v], RESPONSE);
+            }
+        }
+
+        int warmup = Math.min(WARMUP_OPS, ops);
+        long[] samples = new long[ops];
+        for (int i = -warmup; i < ops; i++)
+        {
+            String employeeId = employeeId(ThreadLocalRandom.current().nextInt(employees));
+            long start = System.nanoTime();
+            cache.put(employeeId + "_" + SecurityLevel.BASIC, RESPONSE);
+            String prefix = employeeId + "_";
+            cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+            long elapsed = System.nanoTime() - start;
+            if (i >= 0)
+            {
+                samples[i] = elapsed;
+            }
+            cache.put(employeeId + "_" + SecurityLevel.BASIC, RESPONSE);
+            cache.put(employeeId + "_" + SecurityLevel.MANAGER, RESPONSE);
+        }
+        return samples;
+    }
+
+    private static String employeeId(int n)
+    {
+        return "EMP" + n;
+    }
+
+    private static long percentile(long[] samples, int p)
+    {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * p / 100)];
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.employeeDetails.Cache;
+
+import com.example.employeeDetails.Entity.SecurityLevel;
+import com.example.employeeDetails.dto.EmployeeWithPoliciesDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaffeineResponseCacheTest
+{
+
+    private final CaffeineResponseCache cache = new CaffeineResponseCache(10_000, Duration.ofMinutes(5), new SimpleMeterRegistry(), "test");
+
+    @Test
+    void invalidateEmployeeDropsEveryVariantOfThatEmployeeOnly()
+    {
+        ResponseCacheKey basic = new ResponseCacheKey("EMP001", SecurityLevel.BASIC, 1);
+        ResponseCacheKey admin = new ResponseCacheKey("EMP001", SecurityLevel.ADMIN, 3);
+        ResponseCacheKey other = new ResponseCacheKey("EMP002", SecurityLevel.BASIC, 1);
+        cache.put(basic, new EmployeeWithPoliciesDTO());
+        cache.put(admin, new EmployeeWithPoliciesDTO());
+        cache.put(other, new EmployeeWithPoliciesDTO());
+
+        cache.invalidateEmployee("EMP001");
+
+        assertThat(cache.get(basic)).isNull();
+        assertThat(cache.get(admin)).isNull();
+        assertThat(cache.get(other)).isNotNull();
+    }
+
+    @Test
+    void invalidatingOneVariantKeepsTheOthersInvalidatable()
+    {
+        ResponseCacheKey basic = new ResponseCacheKey("EMP001", SecurityLevel.BASIC, 1);
+        ResponseCacheKey admin = new ResponseCacheKey("EMP001", SecurityLevel.ADMIN, 1);
+        cache.put(basic, new EmployeeWithPoliciesDTO());
+        cache.put(admin, new EmployeeWithPoliciesDTO());
+
+        cache.invalidate(basic);
+        assertThat(cache.get(basic)).isNull();
+        assertThat(cache.get(admin)).isNotNull();
+
+        cache.invalidateEmployee("EMP001");
+        assertThat(cache.get(admin)).isNull();
+    }
+
+    @Test
+    void noEntrySurvivesInvalidationRacingWithPuts() throws Exception
+    {
+        int variants = 64;
+        for (int round = 0; round < 20; round++)
+        {
+            AtomicBoolean running = new AtomicBoolean(true);
+            CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+                int i = 0;
+                while (running.get())
+                {
+                    cache.put(new ResponseCacheKey("EMP001", SecurityLevel.BASIC, i++ % variants), new EmployeeWithPoliciesDTO());
+                }
+            });
+            CompletableFuture<Void> invalidator = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 2_000; i++)
+                {
+                    cache.invalidateEmployee("EMP001");
+                }
+            });
+
+            invalidator.get(10, TimeUnit.SECONDS);
+            running.set(false);
+            writer.get(10, TimeUnit.SECONDS);
+
+            // Every put has returned, so one more invalidation must find all of them through the index
+            cache.invalidateEmployee("EMP001");
+            for (int i = 0; i < variants; i++)
+            {
+                assertThat(cache.get(new ResponseCacheKey("EMP001", SecurityLevel.BASIC, i))).as("variant %d", i).isNull();
+            }
+        }
+    }
+}
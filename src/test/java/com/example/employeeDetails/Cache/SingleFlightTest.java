@@ -0,0 +1,153 @@
+package com.example.employeeDetails.Cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest
+{
+
+    private static final int FOLLOWERS = 8;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("test", meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+
+    @AfterEach
+    void shutdown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersForTheSameKeyShareOneLoad() throws Exception
+    {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = startCallers("EMP001", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "value";
+        });
+        release.countDown();
+
+        for (Future<String> result : results)
+        {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(calls("leader")).isEqualTo(1);
+        assertThat(calls("coalesced")).isEqualTo(FOLLOWERS);
+    }
+
+    @Test
+    void followersRethrowTheLeadersFailure() throws Exception
+    {
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = startCallers("EMP001", () -> {
+            await(release);
+            throw failure;
+        });
+        release.countDown();
+
+        for (Future<String> result : results)
+        {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause().isSameAs(failure);
+        }
+    }
+
+    @Test
+    void keyIsReleasedAfterTheLoadSoLaterCallsLoadAgain()
+    {
+        AtomicInteger loads = new AtomicInteger();
+        assertThat(singleFlight.execute("EMP001", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(singleFlight.execute("EMP001", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+
+        assertThatThrownBy(() -> singleFlight.execute("EMP001", () -> {
+            throw new IllegalArgumentException("bad");
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(singleFlight.execute("EMP001", () -> "v" + loads.incrementAndGet())).isEqualTo("v3");
+        assertThat(calls("coalesced")).isZero();
+    }
+
+    @Test
+    void differentKeysDoNotWaitForEachOther() throws Exception
+    {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> blocked = executor.submit(() -> singleFlight.execute("EMP001", () -> {
+            await(release);
+            return "slow";
+        }));
+        waitFor(() -> calls("leader") == 1);
+
+        assertThat(singleFlight.execute("EMP002", () -> "fast")).isEqualTo("fast");
+        release.countDown();
+        assertThat(blocked.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        assertThat(calls("coalesced")).isZero();
+    }
+
+    // Starts a leader that blocks inside the loader, then followers, and returns once all followers are waiting on it
+    private List<Future<String>> startCallers(String key, Supplier<String> loader) throws InterruptedException
+    {
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute(key, loader)));
+        waitFor(() -> calls("leader") == 1);
+        for (int i = 0; i < FOLLOWERS; i++)
+        {
+            results.add(executor.submit(() -> singleFlight.execute(key, () -> {
+                throw new AssertionError("A follower must not run the loader");
+            })));
+        }
+        waitFor(() -> calls("coalesced") == FOLLOWERS);
+        return results;
+    }
+
+    private double calls(String role)
+    {
+        return meterRegistry.get("singleflight.calls").tag("role", role).counter().count();
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException
+    {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean())
+        {
+            assertThat(System.nanoTime()).as("timed out waiting").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch)
+    {
+        try
+        {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.employeeDetails.Entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Enum-typed levels against the per-row strings they replaced, over ROWS rows: the sensitive-access check
+// (ordinal comparison vs "ADMIN".equals(..) || "MANAGER".equals(..)) and the heap the status and security level
+// columns retain. Every row gets its own String instance, as a JDBC result set hands them out.
+// Run with: mvn test -Pbenchmarks -Dtest=SecurityLevelBenchmark
+class SecurityLevelBenchmark
+{
+
+    private static final int ROWS = 1_000_000;
+    private static final int ROUNDS = 15;
+    private static final String[] LEVEL_NAMES = {"BASIC", "MANAGER", "ADMIN"};
+    private static final String[] STATUS_NAMES = {"ACTIVE", "INACTIVE", "ON_LEAVE"};
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @Test
+    void accessCheckCost()
+    {
+        SecurityLevel[] levels = new SecurityLevel[ROWS];
+        String[] levelNames = new String[ROWS];
+        for (int i = 0; i < ROWS; i++)
+        {
+            levels[i] = SecurityLevel.values()[i % 3];
+            levelNames[i] = new String(LEVEL_NAMES[i % 3]);
+        }
+
+        long enumBest = Long.MAX_VALUE;
+        long stringBest = Long.MAX_VALUE;
+        int enumSensitive = 0;
+        int stringSensitive = 0;
+        // Interleaved rounds, best of each: the first rounds also serve as JIT warm-up
+        for (int round = 0; round < ROUNDS; round++)
+        {
+            long start = System.nanoTime();
+            enumSensitive = countSensitive(levels);
+            enumBest = Math.min(enumBest, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            stringSensitive = countSensitive(levelNames);
+            stringBest = Math.min(stringBest, System.nanoTime() - start);
+        }
+
+        System.out.printf("access check over %d rows: enum %.2f ns/check, string %.2f ns/check%n",
+                ROWS, (double) enumBest / ROWS, (double) stringBest / ROWS);
+        assertThat(enumSensitive).isEqualTo(stringSensitive);
+    }
+
+    @Test
+    void retainedHeapPerRow()
+    {
+        long baseline = usedHeap();
+        Object[] enumRows = new Object[ROWS];
+        for (int i = 0; i < ROWS; i++)
+        {
+            enumRows[i] = new Object[] {EmployeeStatus.values()[i % EmployeeStatus.values().length], SecurityLevel.values()[i % 3]};
+        }
+        long enumBytes = usedHeap() - baseline;
+        assertThat(enumRows[ROWS - 1]).isNotNull();
+        enumRows = null;
+
+        baseline = usedHeap();
+        Object[] stringRows = new Object[ROWS];
+        for (int i = 0; i < ROWS; i++)
+        {
+            stringRows[i] = new Object[] {new String(STATUS_NAMES[i % 3]), new String(LEVEL_NAMES[i % 3])};
+        }
+        long stringBytes = usedHeap() - baseline;
+        assertThat(stringRows[ROWS - 1]).isNotNull();
+
+        // Each row is the two-column array plus its slot in the outer array; only the strings add to it
+        System.out.printf("retained heap for %d rows (status + security level): enum %d MB (%d B/row), string %d MB (%d B/row)%n",
+                ROWS, enumBytes >> 20, enumBytes / ROWS, stringBytes >> 20, stringBytes / ROWS);
+        assertThat(stringBytes).isGreaterThan(enumBytes);
+    }
+
+    private static int countSensitive(SecurityLevel[] levels)
+    {
+        int sensitive = 0;
+        for (SecurityLevel level : levels)
+        {
+            if (level.atLeast(SecurityLevel.MANAGER))
+            {
+                sensitive++;
+            }
+        }
+        return sensitive;
+    }
+
+    private static int countSensitive(String[] levels)
+    {
+        int sensitive = 0;
+        for (String level : levels)
+        {
+            if ("ADMIN".equals(level) || "MANAGER".equals(level))
+            {
+                sensitive++;
+            }
+        }
+        return sensitive;
+    }
+
+    private long usedHeap()
+    {
+        for (int i = 0; i < 3; i++)
+        {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
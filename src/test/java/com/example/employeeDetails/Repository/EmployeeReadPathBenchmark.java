@@ -0,0 +1,126 @@
+package com.example.employeeDetails.Repository;
+
+import com.example.employeeDetails.Entity.Employee;
+import com.example.employeeDetails.Entity.EmployeeStatus;
+import com.example.employeeDetails.Entity.SecurityLevel;
+import com.example.employeeDetails.dto.EmployeeSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Per-request cost of the employee read before and after the projection, on an in-memory H2 database with Hibernate
+// statistics: the former read (findById with the EAGER permission collection, i.e. one outer-join query) against
+// findSummaryById. Each request runs in its own read-only transaction and persistence context, like a web request.
+// Run with: mvn test -Pbenchmarks -Dtest=EmployeeReadPathBenchmark
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeReadPathBenchmark
+{
+
+    private static final int EMPLOYEES = 1_000;
+    private static final int PERMISSIONS = 8;
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int REQUESTS = 20_000;
+
+    private static final String EAGER_READ = "SELECT e FROM Employee e LEFT JOIN FETCH e.permissions WHERE e.employeeID = :employeeId";
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void compareEntityAndProjectionReads()
+    {
+        TransactionTemplate writes = new TransactionTemplate(transactionManager);
+        writes.executeWithoutResult(status -> {
+            for (int i = 0; i < EMPLOYEES; i++)
+            {
+                List<String> permissions = new ArrayList<>();
+                for (int p = 0; p < PERMISSIONS; p++)
+                {
+                    permissions.add("PERMISSION_" + p);
+                }
+                employeeRepository.save(Employee.builder()
+                        .employeeID("EMP" + i).name("Employee " + i).department("DEPT" + (i % 20)).email("emp" + i + "@example.com")
+                        .phone("555-0100").managerId(i == 0 ? null : "EMP" + (i / 10)).status(EmployeeStatus.ACTIVE)
+                        .securityLevel(SecurityLevel.BASIC).version(1).accessCount(0).permissions(permissions)
+                        .salaryBand("B2").locationCode("LOC1").costCenter("CC100").build());
+            }
+        });
+
+        TransactionTemplate reads = new TransactionTemplate(transactionManager);
+        reads.setReadOnly(true);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Supplier<Object> entityRead = () -> entityManager.createQuery(EAGER_READ, Employee.class).setParameter("employeeId", randomEmployee()).getSingleResult();
+        Supplier<Object> projectionRead = () -> employeeRepository.findSummaryById(randomEmployee()).orElseThrow();
+
+        measure("warm-up", reads, statistics, entityRead, WARMUP_REQUESTS, false);
+        measure("warm-up", reads, statistics, projectionRead, WARMUP_REQUESTS, false);
+
+        System.out.printf("%-10s %12s %16s %14s %16s%n", "read", "statements", "entities loaded", "collections", "bytes allocated");
+        double[] entity = measure("entity", reads, statistics, entityRead, REQUESTS, true);
+        double[] projection = measure("projection", reads, statistics, projectionRead, REQUESTS, true);
+
+        assertThat(projection[1]).isZero();
+        assertThat(projection[3]).isLessThan(entity[3]);
+    }
+
+    // Returns per-request averages of statements, entities loaded, collections loaded and bytes allocated
+    private static double[] measure(String name, TransactionTemplate reads, Statistics statistics, Supplier<Object> read, int requests, boolean report)
+    {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        statistics.clear();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < requests; i++)
+        {
+            Object result = reads.execute(status -> read.get());
+            assertThat(result).isInstanceOfAny(Employee.class, EmployeeSummary.class);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        double[] perRequest = {
+                (double) statistics.getPrepareStatementCount() / requests,
+                (double) statistics.getEntityLoadCount() / requests,
+                (double) statistics.getCollectionLoadCount() / requests,
+                (double) allocated / requests};
+        if (report)
+        {
+            System.out.printf("%-10s %12.1f %16.1f %14.1f %16.0f%n", name, perRequest[0], perRequest[1], perRequest[2], perRequest[3]);
+        }
+        return perRequest;
+    }
+
+    private static String randomEmployee()
+    {
+        return "EMP" + ThreadLocalRandom.current().nextInt(EMPLOYEES);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.employeeDetails.Security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The registries are process-wide, so every test interns its own uniquely prefixed names
+class NameRegistryTest
+{
+
+    private final String prefix = "TEST_" + UUID.randomUUID() + "_";
+
+    @Test
+    void knownNamesAreRegisteredUpFront()
+    {
+        assertThat(NameRegistry.PERMISSIONS.indexIfKnown("READ")).isNotNegative();
+        assertThat(NameRegistry.ROLES.indexIfKnown("MANAGER")).isNotNegative();
+        assertThat(NameRegistry.PERMISSIONS.indexIfKnown(prefix + "NEVER_USED")).isEqualTo(-1);
+        assertThat(NameRegistry.PERMISSIONS.indexIfKnown(null)).isEqualTo(-1);
+    }
+
+    @Test
+    void indexIsStablePerName()
+    {
+        int first = NameRegistry.PERMISSIONS.index(prefix + "EXPORT");
+        assertThat(NameRegistry.PERMISSIONS.index(prefix + "EXPORT")).isEqualTo(first);
+        assertThat(NameRegistry.PERMISSIONS.indexIfKnown(prefix + "EXPORT")).isEqualTo(first);
+        assertThat(NameRegistry.PERMISSIONS.index(prefix + "IMPORT")).isNotEqualTo(first);
+    }
+
+    @Test
+    void setsRoundTripThroughNamesWellPastSixtyFourEntries()
+    {
+        List<String> names = IntStream.range(0, 200).mapToObj(i -> prefix + i).toList();
+        NameSet set = NameRegistry.ROLES.set(names);
+
+        assertThat(set.size()).isEqualTo(200);
+        assertThat(NameRegistry.ROLES.names(set)).containsExactlyInAnyOrderElementsOf(names);
+        assertThat(NameRegistry.ROLES.size()).isGreaterThan(200);
+        for (String name : names)
+        {
+            assertThat(NameRegistry.ROLES.contains(set, name)).as(name).isTrue();
+        }
+        assertThat(NameRegistry.ROLES.contains(set, "USER")).isFalse();
+        assertThat(NameRegistry.ROLES.contains(set, prefix + "missing")).isFalse();
+    }
+
+    @Test
+    void smallSetsDoNotContainLaterRegisteredNames()
+    {
+        NameSet readOnly = NameRegistry.PERMISSIONS.set(List.of("READ"));
+        List<String> later = IntStream.range(0, 100).mapToObj(i -> prefix + i).toList();
+        NameRegistry.PERMISSIONS.set(later);
+
+        assertThat(NameRegistry.PERMISSIONS.contains(readOnly, "READ")).isTrue();
+        for (String name : later)
+        {
+            assertThat(NameRegistry.PERMISSIONS.contains(readOnly, name)).isFalse();
+        }
+    }
+
+    @Test
+    void emptyAndNullSetsHaveNoNames()
+    {
+        assertThat(NameRegistry.PERMISSIONS.set(List.of())).isSameAs(NameSet.EMPTY);
+        assertThat(NameRegistry.PERMISSIONS.set(null)).isSameAs(NameSet.EMPTY);
+        assertThat(NameRegistry.PERMISSIONS.names(NameSet.EMPTY)).isEmpty();
+        assertThat(NameRegistry.PERMISSIONS.names(null)).isEmpty();
+        assertThat(NameRegistry.PERMISSIONS.contains(null, "READ")).isFalse();
+    }
+
+    @Test
+    void equalSetsAreEqualRegardlessOfInsertionOrder()
+    {
+        NameSet forward = NameRegistry.PERMISSIONS.set(List.of("READ", "WRITE", prefix + "AUDIT"));
+        NameSet backward = NameRegistry.PERMISSIONS.set(List.of(prefix + "AUDIT", "WRITE", "READ", "READ"));
+
+        assertThat(forward).isEqualTo(backward).hasSameHashCodeAs(backward);
+        assertThat(forward).isNotEqualTo(NameRegistry.PERMISSIONS.set(List.of("READ")));
+    }
+
+    @Test
+    void concurrentRegistrationAssignsEachNameOneDistinctIndex()
+    {
+        List<String> names = IntStream.range(0, 500).mapToObj(i -> prefix + i).toList();
+        List<CompletableFuture<List<Integer>>> workers = new ArrayList<>();
+        for (int worker = 0; worker < 4; worker++)
+        {
+            workers.add(CompletableFuture.supplyAsync(() -> names.stream().map(NameRegistry.ROLES::index).toList()));
+        }
+
+        List<Integer> indexes = workers.get(0).join();
+        workers.forEach(worker -> assertThat(worker.join()).isEqualTo(indexes));
+        assertThat(Set.copyOf(indexes)).hasSize(names.size());
+        assertThat(NameRegistry.ROLES.names(NameRegistry.ROLES.set(names))).containsExactlyInAnyOrderElementsOf(names);
+    }
+
+    @Test
+    void converterStoresNamesAndReadsThemBack()
+    {
+        PermissionMaskConverter converter = new PermissionMaskConverter();
+        List<String> names = IntStream.range(0, 70).mapToObj(i -> prefix + i).toList();
+        NameSet set = NameRegistry.PERMISSIONS.set(names);
+
+        String column = converter.convertToDatabaseColumn(set);
+        assertThat(column.split(",")).containsExactlyInAnyOrderElementsOf(names);
+        assertThat(converter.convertToEntityAttribute(column)).isEqualTo(set);
+        assertThat(converter.convertToDatabaseColumn(NameSet.EMPTY)).isEmpty();
+        assertThat(converter.convertToEntityAttribute("")).isSameAs(NameSet.EMPTY);
+        assertThat(converter.convertToEntityAttribute(null)).isSameAs(NameSet.EMPTY);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.employeeDetails.Service;
+
+import com.example.employeeDetails.dto.AuditEventView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditCursorTest
+{
+
+    @Test
+    void roundTripsTimestampWithNanosAndId()
+    {
+        AuditEventView event = new AuditEventView(1234567890123L, "EMP001", "EMPLOYEE_ACCESS", null, LocalDateTime.of(2026, 3, 14, 15, 9, 26, 535_897_932),
+                "user", "EmployeeDetailsService", null, false, null, false);
+
+        AuditQueryService.Position position = AuditQueryService.Position.of(event);
+        AuditQueryService.Position decoded = AuditQueryService.Position.decode(position.encode());
+
+        assertThat(decoded).isEqualTo(position);
+        assertThat(decoded.timestamp()).isEqualTo(event.getTimestamp());
+        assertThat(decoded.id()).isEqualTo(1234567890123L);
+    }
+
+    @Test
+    void roundTripsTimestampsBeforeTheEpoch()
+    {
+        AuditQueryService.Position position = new AuditQueryService.Position(LocalDateTime.of(1950, 6, 1, 0, 0, 0, 1), 7);
+        assertThat(AuditQueryService.Position.decode(position.encode())).isEqualTo(position);
+    }
+
+    @Test
+    void startCursorRoundTrips()
+    {
+        AuditQueryService.Position start = AuditQueryService.Position.START;
+        assertThat(AuditQueryService.Position.decode(start.encode())).isEqualTo(start);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe()
+    {
+        String cursor = new AuditQueryService.Position(LocalDateTime.of(2026, 1, 1, 0, 0), Long.MAX_VALUE).encode();
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    // Not base64, too few or too many fields, non-numeric fields, nanos out of range
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "bm90LWEtY3Vyc29y", "MS4y", "MS4yLjMuNA", "YS5iLmM", "MS45OTk5OTk5OTk5LjM"})
+    void rejectsMalformedCursors(String cursor)
+    {
+        assertThatThrownBy(() -> AuditQueryService.Position.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid audit cursor");
+    }
+}
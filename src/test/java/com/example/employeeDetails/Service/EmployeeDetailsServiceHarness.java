@@ -0,0 +1,152 @@
+package com.example.employeeDetails.Service;
+
+import com.example.employeeDetails.Cache.CaffeineResponseCache;
+import com.example.employeeDetails.Entity.EmployeeStatus;
+import com.example.employeeDetails.Entity.SecurityContext;
+import com.example.employeeDetails.Entity.SecurityLevel;
+import com.example.employeeDetails.Repository.EmployeeRepository;
+import com.example.employeeDetails.dto.EmployeeSummary;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// EmployeeDetailsService wired for the load benchmarks: the real service, response cache and HrPolicyService, a
+// mocked repository whose employee read takes dbLatency while holding one of poolSize permits (the Hikari pool),
+// and an in-process stand-in for the legacy policy server that answers after legacyLatency. Employees are spread
+// over the given number of departments, each with its own policy list. The fan-out executor is the one Boot builds
+// from application.properties: a 64..200 thread pool, or a thread per task in virtual-thread mode. Counts both backends.
+class EmployeeDetailsServiceHarness implements AutoCloseable
+{
+
+    private static final String POLICIES_JSON = "[{\"policyId\":\"POL1\",\"category\":\"MANDATORY\"},{\"policyId\":\"POL2\",\"category\":\"GENERAL\"}]";
+
+    final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final AtomicInteger dbCalls = new AtomicInteger();
+    final AtomicInteger legacyCalls = new AtomicInteger();
+    final EmployeeDetailsService service;
+    final HrPolicyService hrPolicyService;
+
+    private final HttpServer legacyServer;
+    private final ExecutorService legacyWorkers = Executors.newVirtualThreadPerTaskExecutor();
+    private final AsyncTaskExecutor fanOutExecutor;
+
+    EmployeeDetailsServiceHarness(Duration dbLatency, int poolSize, Duration legacyLatency, boolean virtualFanOut) throws IOException
+    {
+        this(dbLatency, poolSize, legacyLatency, virtualFanOut, 10);
+    }
+
+    EmployeeDetailsServiceHarness(Duration dbLatency, int poolSize, Duration legacyLatency, boolean virtualFanOut, int departments) throws IOException
+    {
+        legacyServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        legacyServer.setExecutor(legacyWorkers);
+        legacyServer.createContext("/policies", exchange -> {
+            legacyCalls.incrementAndGet();
+            sleep(legacyLatency);
+            byte[] body = POLICIES_JSON.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody())
+            {
+                out.write(body);
+            }
+        });
+        legacyServer.start();
+        hrPolicyService = new HrPolicyService(WebClient.builder(), meterRegistry, "http://127.0.0.1:" + legacyServer.getAddress().getPort(),
+                Duration.ofMinutes(5), Duration.ofSeconds(30));
+
+        SecurityContext context = new SecurityContext();
+        context.setUserId("bench");
+        context.setSecurityLevel(SecurityLevel.MANAGER);
+        SecurityService securityService = mock(SecurityService.class);
+        when(securityService.validateAndGetContext(anyString(), eq("READ"))).thenReturn(context);
+
+        Semaphore connectionPool = new Semaphore(poolSize, true);
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.findSummaryById(anyString())).thenAnswer(invocation -> {
+            connectionPool.acquire();
+            try
+            {
+                dbCalls.incrementAndGet();
+                sleep(dbLatency);
+                String employeeId = invocation.getArgument(0);
+                return Optional.of(new EmployeeSummary(employeeId, "Employee " + employeeId, "DEPT" + Math.floorMod(employeeId.hashCode(), departments),
+                        employeeId + "@example.com", "555-0100", null, EmployeeStatus.ACTIVE, SecurityLevel.BASIC));
+            }
+            finally
+            {
+                connectionPool.release();
+            }
+        });
+
+        fanOutExecutor = virtualFanOut ? virtualExecutor() : platformExecutor();
+        service = new EmployeeDetailsService(hrPolicyService, mock(AuditService.class), securityService, employeeRepository, mock(OrgHierarchyService.class),
+                new CaffeineResponseCache(100_000, Duration.ofMinutes(5), meterRegistry, "bench"), meterRegistry, fanOutExecutor,
+                Duration.ofSeconds(30), Duration.ofSeconds(30), 100_000, 20, 500);
+    }
+
+    double coalescedLoads()
+    {
+        return meterRegistry.get("singleflight.calls").tag("name", "employeeResponse").tag("role", "coalesced").counter().count();
+    }
+
+    @Override
+    public void close()
+    {
+        legacyServer.stop(0);
+        legacyWorkers.shutdownNow();
+        if (fanOutExecutor instanceof ThreadPoolTaskExecutor pool)
+        {
+            pool.shutdown();
+        }
+    }
+
+    private static AsyncTaskExecutor platformExecutor()
+    {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("fanout-");
+        executor.setCorePoolSize(64);
+        executor.setMaxPoolSize(200);
+        executor.setQueueCapacity(1000);
+        executor.initialize();
+        return executor;
+    }
+
+    private static AsyncTaskExecutor virtualExecutor()
+    {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("fanout-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    static void sleep(Duration duration)
+    {
+        try
+        {
+            Thread.sleep(duration);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.employeeDetails.Service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Thundering herd on one cold employee: CONCURRENCY requests released together after its cached response is
+// invalidated, against a 50 ms employee read and a 200 ms legacy policy call. Without coalescing every one of them
+// would run its own DB read and policy fetch. Run with: mvn test -Pbenchmarks -Dtest=EmployeeLoadCoalescingBenchmark
+class EmployeeLoadCoalescingBenchmark
+{
+
+    private static final int CONCURRENCY = 500;
+    private static final int WAVES = 5;
+
+    @Test
+    void concurrentMissesOnOneEmployeeShareOneLoad() throws Exception
+    {
+        try (EmployeeDetailsServiceHarness harness = new EmployeeDetailsServiceHarness(Duration.ofMillis(50), 200, Duration.ofMillis(200), false))
+        {
+            System.out.printf("%-6s %9s %9s %13s %10s %11s %10s%n", "wave", "requests", "db reads", "legacy calls", "coalesced", "cache hits", "wall");
+            for (int wave = 1; wave <= WAVES; wave++)
+            {
+                // Expire the response; the department's policies stay cached in HrPolicyService after the first wave
+                harness.service.refreshEmployeeCache("EMP1");
+                int dbBefore = harness.dbCalls.get();
+                int legacyBefore = harness.legacyCalls.get();
+                double coalescedBefore = harness.coalescedLoads();
+
+                long start = System.nanoTime();
+                int failures = herd(harness.service, "EMP1");
+                long wallMillis = (System.nanoTime() - start) / 1_000_000;
+
+                int dbReads = harness.dbCalls.get() - dbBefore;
+                long coalesced = Math.round(harness.coalescedLoads() - coalescedBefore);
+                // Requests released after the leader published its response are plain cache hits
+                System.out.printf("%-6d %9d %9d %13d %10d %11d %7d ms%n", wave, CONCURRENCY, dbReads,
+                        harness.legacyCalls.get() - legacyBefore, coalesced, CONCURRENCY - dbReads - coalesced, wallMillis);
+
+                assertThat(failures).isZero();
+                // A straggler that missed the cache just before the leader published can start one more load
+                assertThat(dbReads).isLessThanOrEqualTo(3);
+            }
+            assertThat(harness.legacyCalls.get()).isEqualTo(1);
+        }
+    }
+
+    private static int herd(EmployeeDetailsService service, String employeeId) throws InterruptedException
+    {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++)
+        {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try
+                {
+                    start.await();
+                    service.getEmployeeWithPolicies(employeeId, "bench-session");
+                }
+                catch (Exception e)
+                {
+                    failures.incrementAndGet();
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+        return failures.get();
+    }
+}
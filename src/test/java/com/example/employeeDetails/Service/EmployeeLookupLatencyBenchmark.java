@@ -0,0 +1,95 @@
+package com.example.employeeDetails.Service;
+
+import com.example.employeeDetails.dto.EmployeeWithPoliciesDTO;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Blocking vs reactive employee + policy lookup under bursts of cold lookups (distinct employees and
+// departments, so every request reads the DB for 20 ms and calls the legacy server for 100 ms). The blocking path
+// runs on a 200-thread pool like Tomcat's default; the reactive path is subscribed from one thread. Latency is
+// measured from submission, so queueing for a request thread counts.
+// Run with: mvn test -Pbenchmarks -Dtest=EmployeeLookupLatencyBenchmark
+class EmployeeLookupLatencyBenchmark
+{
+
+    private static final int[] BURSTS = {200, 1_000};
+    private static final int REQUEST_THREADS = 200;
+    private static final Duration DB_LATENCY = Duration.ofMillis(20);
+    private static final Duration LEGACY_LATENCY = Duration.ofMillis(100);
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void compareBlockingAndReactiveLatency() throws Exception
+    {
+        System.out.printf("%-9s %6s %9s %9s %9s %13s %13s%n", "path", "burst", "p50", "p99", "max", "peak threads", "legacy calls");
+        for (int requests : BURSTS)
+        {
+            assertThat(measure(false, requests)).hasSize(requests);
+            assertThat(measure(true, requests)).hasSize(requests);
+        }
+    }
+
+    private long[] measure(boolean reactive, int requests) throws Exception
+    {
+        try (EmployeeDetailsServiceHarness harness = new EmployeeDetailsServiceHarness(DB_LATENCY, REQUEST_THREADS, LEGACY_LATENCY, false, 1_000_000))
+        {
+            ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+            try
+            {
+                burst(harness.service, requestThreads, reactive, "WARM", requests);
+
+                int legacyBefore = harness.legacyCalls.get();
+                threads.resetPeakThreadCount();
+                long[] latencies = burst(harness.service, requestThreads, reactive, "EMP", requests);
+                int peakThreads = threads.getPeakThreadCount();
+
+                Arrays.sort(latencies);
+                System.out.printf("%-9s %6d %6d ms %6d ms %6d ms %13d %13d%n", reactive ? "reactive" : "blocking", requests,
+                        millis(latencies[latencies.length / 2]), millis(latencies[latencies.length * 99 / 100]), millis(latencies[latencies.length - 1]), peakThreads,
+                        harness.legacyCalls.get() - legacyBefore);
+                return latencies;
+            }
+            finally
+            {
+                requestThreads.shutdownNow();
+            }
+        }
+    }
+
+    // Submits every request at once and returns each one's submission-to-completion time in nanoseconds
+    private static long[] burst(EmployeeDetailsService service, ExecutorService requestThreads, boolean reactive, String idPrefix, int requests) throws Exception
+    {
+        long[] latencies = new long[requests];
+        List<CompletableFuture<EmployeeWithPoliciesDTO>> calls = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++)
+        {
+            int request = i;
+            String employeeId = idPrefix + i;
+            long submitted = System.nanoTime();
+            CompletableFuture<EmployeeWithPoliciesDTO> call = reactive
+                    ? service.getEmployeeWithPoliciesReactive(employeeId, "bench-session").toFuture()
+                    : CompletableFuture.supplyAsync(() -> service.getEmployeeWithPolicies(employeeId, "bench-session"), requestThreads);
+            calls.add(call.whenComplete((result, error) -> latencies[request] = System.nanoTime() - submitted));
+        }
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).get(2, TimeUnit.MINUTES);
+        return latencies;
+    }
+
+    private static long millis(long nanos)
+    {
+        return nanos / 1_000_000;
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.employeeDetails.Service;
+
+import com.example.employeeDetails.Entity.EmployeeStatus;
+import com.example.employeeDetails.Entity.SecurityLevel;
+import com.example.employeeDetails.dto.EmployeeSummary;
+import com.example.employeeDetails.dto.EmployeeWithPoliciesDTO;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Bytes allocated to build one employee response. The full cache-miss request is measured through the service
+// (instant backends, a fresh employee per request, every thread counted). The response sections are measured on
+// their own: the per-request collections completeLoad builds now against a replay of the maps and lists it used to
+// build for every response before the invariant sections became shared constants.
+// Run with: mvn test -Pbenchmarks -Dtest=EmployeeResponseAllocationBenchmark
+class EmployeeResponseAllocationBenchmark
+{
+
+    private static final int WARMUP = 20_000;
+    private static final int REQUESTS = 20_000;
+    private static final int SECTION_BUILDS = 1_000_000;
+    private static final EmployeeSummary EMPLOYEE = new EmployeeSummary("EMP1", "Employee 1", "DEPT1", "emp1@example.com", "555-0100", null, EmployeeStatus.ACTIVE, SecurityLevel.BASIC);
+
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Keeps every built section reachable so escape analysis cannot elide the allocations being measured
+    private static volatile Object sink;
+
+    @Test
+    void bytesAllocatedPerResponse() throws Exception
+    {
+        try (EmployeeDetailsServiceHarness harness = new EmployeeDetailsServiceHarness(Duration.ZERO, 200, Duration.ZERO, false))
+        {
+            for (int i = 0; i < WARMUP; i++)
+            {
+                harness.service.getEmployeeWithPolicies("WARM" + i, "bench-session");
+            }
+            long before = THREADS.getTotalThreadAllocatedBytes();
+            for (int i = 0; i < REQUESTS; i++)
+            {
+                sink = harness.service.getEmployeeWithPolicies("EMP" + i, "bench-session");
+            }
+            long perRequest = (THREADS.getTotalThreadAllocatedBytes() - before) / REQUESTS;
+            System.out.printf("full cache-miss request, all threads: %d B%n", perRequest);
+        }
+
+        // The harness's legacy server returns two policies per department
+        long now = sectionBytes(() -> sectionsNow(EMPLOYEE, 2, "bench-session"));
+        long before = sectionBytes(() -> sectionsBefore(EMPLOYEE, 2, "bench-session"));
+        System.out.printf("response sections: now %d B, per-request maps and lists before %d B (%d B saved)%n", now, before, before - now);
+        assertThat(now).isLessThan(before);
+    }
+
+    private static long sectionBytes(Runnable build)
+    {
+        for (int i = 0; i < SECTION_BUILDS; i++)
+        {
+            build.run();
+        }
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < SECTION_BUILDS; i++)
+        {
+            build.run();
+        }
+        return (THREADS.getCurrentThreadAllocatedBytes() - before) / SECTION_BUILDS;
+    }
+
+    // The per-request part of completeLoad: everything else is a shared constant
+    private static void sectionsNow(EmployeeSummary employee, int policyCount, String sessionId)
+    {
+        LocalDateTime complete = LocalDateTime.now();
+        sink = new Object[] {
+                Map.of("EMPLOYEE_ACTIVE", employee.getStatus() == EmployeeStatus.ACTIVE,
+                        "DEPARTMENT_VALID", !employee.getDepartment().isEmpty(),
+                        "POLICIES_REQUIRED", policyCount > 0,
+                        "SECURITY_LEVEL_APPROPRIATE", employee.getSecurityLevel() == SecurityLevel.BASIC),
+                Map.of("EMPLOYEE_EXISTS", true, "DEPARTMENT_VALID", true, "POLICIES_AVAILABLE", policyCount > 0, "SECURITY_COMPLIANT", true),
+                Map.of("START", complete.minusSeconds(3), "EMPLOYEE_FETCH", complete.minusSeconds(2), "POLICY_FETCH", complete.minusSeconds(1), "COMPLETE", complete),
+                new EmployeeWithPoliciesDTO.ContextData(sessionId, employee.getEmployeeID(), employee.getDepartment(), String.valueOf(employee.getSecurityLevel()), String.valueOf(policyCount))};
+    }
+
+    // Replay of the collections completeLoad built for every response before they were shared
+    private static void sectionsBefore(EmployeeSummary employee, int policyCount, String sessionId)
+    {
+        Map<String, Boolean> accessRights = new HashMap<>();
+        accessRights.put("READ_EMPLOYEE", true);
+        accessRights.put("READ_POLICIES", policyCount > 0);
+        accessRights.put("UPDATE_EMPLOYEE", true);
+        accessRights.put("DELETE_EMPLOYEE", true);
+
+        List<String> permissions = new ArrayList<>();
+        permissions.add("EMPLOYEE_READ");
+        permissions.add("POLICY_READ");
+        permissions.add("EMPLOYEE_WRITE");
+        permissions.add("EMPLOYEE_DELETE");
+
+        Map<String, Object> businessRules = new HashMap<>();
+        businessRules.put("EMPLOYEE_ACTIVE", employee.getStatus() == EmployeeStatus.ACTIVE);
+        businessRules.put("DEPARTMENT_VALID", !employee.getDepartment().isEmpty());
+        businessRules.put("POLICIES_REQUIRED", policyCount > 0);
+        businessRules.put("SECURITY_LEVEL_APPROPRIATE", employee.getSecurityLevel() == SecurityLevel.BASIC);
+
+        List<String> complianceChecks = new ArrayList<>();
+        complianceChecks.add("EMPLOYEE_STATUS_CHECK");
+        complianceChecks.add("DEPARTMENT_POLICY_CHECK");
+        complianceChecks.add("SECURITY_LEVEL_CHECK");
+
+        Map<String, Boolean> ruleResults = new HashMap<>();
+        ruleResults.put("EMPLOYEE_EXISTS", true);
+        ruleResults.put("DEPARTMENT_VALID", true);
+        ruleResults.put("POLICIES_AVAILABLE", policyCount > 0);
+        ruleResults.put("SECURITY_COMPLIANT", true);
+
+        Map<String, LocalDateTime> timestamps = new HashMap<>();
+        timestamps.put("START", LocalDateTime.now().minusSeconds(3));
+        timestamps.put("EMPLOYEE_FETCH", LocalDateTime.now().minusSeconds(2));
+        timestamps.put("POLICY_FETCH", LocalDateTime.now().minusSeconds(1));
+        timestamps.put("COMPLETE", LocalDateTime.now());
+
+        List<String> operations = new ArrayList<>();
+        operations.add("SECURITY_VALIDATION");
+        operations.add("EMPLOYEE_FETCH");
+        operations.add("POLICY_RETRIEVAL");
+        operations.add("BUSINESS_RULE_CHECK");
+        operations.add("AUDIT_LOGGING");
+
+        Map<String, String> contextData = new HashMap<>();
+        contextData.put("SESSION_ID", sessionId);
+        contextData.put("EMPLOYEE_ID", employee.getEmployeeID());
+        contextData.put("DEPARTMENT", employee.getDepartment());
+        contextData.put("SECURITY_LEVEL", String.valueOf(employee.getSecurityLevel()));
+        contextData.put("POLICY_COUNT", String.valueOf(policyCount));
+
+        List<String> dependencies = new ArrayList<>();
+        dependencies.add("HrPolicyService");
+        dependencies.add("SecurityService");
+        dependencies.add("AuditService");
+        dependencies.add("EmployeeService");
+
+        Map<String, String> references = new HashMap<>();
+        references.put("EMPLOYEE_SOURCE", "EmployeeService");
+        references.put("POLICY_SOURCE", "HrPolicyService");
+        references.put("SECURITY_SOURCE", "SecurityService");
+        references.put("AUDIT_SOURCE", "AuditService");
+
+        Map<String, Object> configuration = new HashMap<>();
+        configuration.put("CACHE_ENABLED", true);
+        configuration.put("SECURITY_ENABLED", true);
+        configuration.put("AUDIT_ENABLED", true);
+        configuration.put("COMPLIANCE_CHECK_ENABLED", true);
+
+        List<String> transformations = new ArrayList<>();
+        transformations.add("SECURITY_VALIDATION");
+        transformations.add("BUSINESS_RULE_VALIDATION");
+        transformations.add("AUDIT_TRAIL_GENERATION");
+        transformations.add("CROSS_REFERENCE_POPULATION");
+        transformations.add("METADATA_ENRICHMENT");
+
+        Map<String, Object> dynamicFields = new HashMap<>();
+        dynamicFields.put("COMPLEXITY_LEVEL", "HIGH");
+        dynamicFields.put("INTERDEPENDENCY_COUNT", 3);
+        dynamicFields.put("LAYER_COUNT", 5);
+        dynamicFields.put("PROCESSING_CHAIN", "EmployeeDetailsService -> HrPolicyService -> SecurityService -> AuditService");
+
+        sink = new Object[] {accessRights, permissions, businessRules, complianceChecks, ruleResults, timestamps, operations, contextData,
+                dependencies, references, configuration, transformations, dynamicFields};
+    }
+}
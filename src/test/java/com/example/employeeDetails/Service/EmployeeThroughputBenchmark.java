@@ -0,0 +1,90 @@
+package com.example.employeeDetails.Service;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Throughput of the blocking lookup with CONCURRENCY requests in flight at once, in the two thread modes of
+// spring.threads.virtual.enabled: 200 platform request threads (Tomcat's default) with the 64..200 fan-out pool, or
+// a virtual thread per request and per fan-out task. Either way the employee read holds one of 200 connection
+// permits (spring.datasource.hikari.maximum-pool-size) for 20 ms, and 100 departments' policies come from a 100 ms
+// legacy call. Run with: mvn test -Pbenchmarks -Dtest=EmployeeThroughputBenchmark
+class EmployeeThroughputBenchmark
+{
+
+    private static final int CONCURRENCY = 5_000;
+    private static final int REQUEST_THREADS = 200;
+    private static final int CONNECTIONS = 200;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void compareVirtualAndPlatformThreadThroughput() throws Exception
+    {
+        System.out.printf("%-9s %9s %11s %9s %9s %13s%n", "threads", "requests", "throughput", "p50", "p99", "peak threads");
+        for (boolean virtual : new boolean[] {false, true})
+        {
+            try (EmployeeDetailsServiceHarness harness = new EmployeeDetailsServiceHarness(Duration.ofMillis(20), CONNECTIONS, Duration.ofMillis(100), virtual, 100))
+            {
+                ExecutorService requestThreads = virtual ? Executors.newVirtualThreadPerTaskExecutor() : Executors.newFixedThreadPool(REQUEST_THREADS);
+                try
+                {
+                    run(harness.service, requestThreads, "WARM", 1_000);
+
+                    threads.resetPeakThreadCount();
+                    long start = System.nanoTime();
+                    long[] latencies = run(harness.service, requestThreads, "EMP", CONCURRENCY);
+                    long elapsed = System.nanoTime() - start;
+                    int peakThreads = threads.getPeakThreadCount();
+
+                    Arrays.sort(latencies);
+                    System.out.printf("%-9s %9d %7.0f r/s %6d ms %6d ms %13d%n", virtual ? "virtual" : "platform", CONCURRENCY,
+                            CONCURRENCY / (elapsed / 1e9), latencies[latencies.length / 2] / 1_000_000, latencies[latencies.length * 99 / 100] / 1_000_000, peakThreads);
+                    assertThat(latencies[0]).isPositive();
+                }
+                finally
+                {
+                    requestThreads.shutdownNow();
+                }
+            }
+        }
+    }
+
+    // Submits every request at once; returns submission-to-completion times and fails on any request error
+    private static long[] run(EmployeeDetailsService service, ExecutorService requestThreads, String idPrefix, int requests) throws Exception
+    {
+        long[] latencies = new long[requests];
+        AtomicInteger failures = new AtomicInteger();
+        CompletableFuture<?>[] calls = new CompletableFuture<?>[requests];
+        for (int i = 0; i < requests; i++)
+        {
+            int request = i;
+            String employeeId = idPrefix + i;
+            long submitted = System.nanoTime();
+            calls[i] = CompletableFuture.runAsync(() -> {
+                try
+                {
+                    service.getEmployeeWithPolicies(employeeId, "bench-session");
+                }
+                catch (RuntimeException e)
+                {
+                    failures.incrementAndGet();
+                }
+                latencies[request] = System.nanoTime() - submitted;
+            }, requestThreads);
+        }
+        CompletableFuture.allOf(calls).get(5, TimeUnit.MINUTES);
+        assertThat(failures.get()).as("failed requests").isZero();
+        return latencies;
+    }
+}
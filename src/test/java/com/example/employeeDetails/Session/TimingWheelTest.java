@@ -0,0 +1,113 @@
+package com.example.employeeDetails.Session;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest
+{
+
+    private static final long LEVEL_ONE_SPAN = 64;
+    private static final long LEVEL_TWO_SPAN = 64 * 64;
+    private static final long WHEEL_SPAN = 64L * 64 * 64 * 64;
+
+    @Test
+    void firesAtTheDeadlineTickAndNotBefore()
+    {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 0);
+        wheel.schedule("a", 55);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(49, fired::add);
+        assertThat(fired).isEmpty();
+        wheel.advance(50, fired::add);
+        assertThat(fired).containsExactly("a");
+        wheel.advance(1000, fired::add);
+        assertThat(fired).containsExactly("a");
+    }
+
+    @Test
+    void pastDeadlinesFireOnTheNextAdvance()
+    {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 1000);
+        wheel.schedule("late", 500);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(1000, fired::add);
+        assertThat(fired).containsExactly("late");
+    }
+
+    @Test
+    void cascadesTimersFromUpperLevelsDownToTheirTick()
+    {
+        long start = 37;
+        TimingWheel<String> wheel = new TimingWheel<>(1, start);
+        long levelOne = start + 3 * LEVEL_ONE_SPAN + 5;
+        long levelTwo = start + 2 * LEVEL_TWO_SPAN + 7;
+        long levelThree = start + 3 * 64 * LEVEL_TWO_SPAN + 11;
+        wheel.schedule("one", levelOne);
+        wheel.schedule("two", levelTwo);
+        wheel.schedule("three", levelThree);
+
+        Map<String, Long> firedAt = new HashMap<>();
+        assertFiresExactlyAt(wheel, levelOne, "one", firedAt);
+        assertFiresExactlyAt(wheel, levelTwo, "two", firedAt);
+        assertFiresExactlyAt(wheel, levelThree, "three", firedAt);
+    }
+
+    @Test
+    void keepsTimersBeyondTheWheelInOverflowUntilTheyComeInRange()
+    {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 0);
+        long deadline = WHEEL_SPAN + 2 * LEVEL_TWO_SPAN + 100;
+        wheel.schedule("far", deadline);
+
+        Map<String, Long> firedAt = new HashMap<>();
+        assertFiresExactlyAt(wheel, deadline, "far", firedAt);
+    }
+
+    @Test
+    void firesEveryTimerOnceOnTheFirstAdvancePastItsDeadline()
+    {
+        TimingWheel<Integer> wheel = new TimingWheel<>(1, 0);
+        Random random = new Random(42);
+        long horizon = 3 * LEVEL_TWO_SPAN * 64;
+        long[] deadlines = new long[5_000];
+        for (int i = 0; i < deadlines.length; i++)
+        {
+            deadlines[i] = random.nextLong(horizon);
+            wheel.schedule(i, deadlines[i]);
+        }
+
+        long[] firedAt = new long[deadlines.length];
+        Arrays.fill(firedAt, -1);
+        for (long now = 0; now < horizon + 997; now += 997)
+        {
+            long tick = now;
+            wheel.advance(now, item -> {
+                assertThat(firedAt[item]).as("timer %d fired twice", item).isEqualTo(-1);
+                firedAt[item] = tick;
+            });
+        }
+        for (int i = 0; i < deadlines.length; i++)
+        {
+            // Advancing in steps fires a timer on the first advance at or after its deadline
+            assertThat(firedAt[i]).as("timer %d", i).isGreaterThanOrEqualTo(deadlines[i]).isLessThan(deadlines[i] + 997);
+        }
+    }
+
+    private static void assertFiresExactlyAt(TimingWheel<String> wheel, long deadline, String item, Map<String, Long> firedAt)
+    {
+        wheel.advance(deadline - 1, fired -> firedAt.put(fired, -1L));
+        assertThat(firedAt).doesNotContainKey(item);
+        wheel.advance(deadline, fired -> firedAt.put(fired, deadline));
+        assertThat(firedAt).containsEntry(item, deadline);
+    }
+}